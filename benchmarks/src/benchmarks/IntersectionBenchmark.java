@@ -0,0 +1,147 @@
+package benchmarks;
+
+import geometries.*;
+import geometries.Intersectable.GeoPoint;
+import org.openjdk.jmh.annotations.*;
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the intersection kernels of the basic geometries on a fixed mix of
+ * hitting and missing rays. The rays are random but seeded, so every run
+ * measures the same rays.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntersectionBenchmark {
+    /**
+     * Amount of prepared rays, a power of 2
+     */
+    private static final int RAYS = 1024;
+
+    @Param({"sphere", "plane", "triangle", "polygon", "tube", "cylinder"})
+    public String geometry;
+
+    /**
+     * Percentage of the rays hitting the geometry
+     */
+    @Param({"0", "50", "100"})
+    public int hitPercent;
+
+    private Geometry target;
+    private Function<Ray, List<GeoPoint>> helper;
+    private Ray[] rays;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Ray axis = new Ray(new Point(0, 0, -1), new Vector(0, 0, 1));
+        switch (geometry) {
+            case "sphere" -> {
+                Sphere sphere = new Sphere(new Point(0, 0, 0), 1);
+                target = sphere;
+                helper = sphere::findGeoIntersectionsHelper;
+            }
+            case "plane" -> {
+                Plane plane = new Plane(new Point(0, 0, 0), new Vector(0, 0, 1));
+                target = plane;
+                helper = plane::findGeoIntersectionsHelper;
+            }
+            case "triangle" -> {
+                Triangle triangle = new Triangle(new Point(-1, -1, 0), new Point(1, -1, 0), new Point(0, 1, 0));
+                target = triangle;
+                helper = triangle::findGeoIntersectionsHelper;
+            }
+            case "polygon" -> {
+                Polygon polygon = new Polygon(new Point(-1, -1, 0), new Point(1, -1, 0),
+                        new Point(1, 1, 0), new Point(-1, 1, 0));
+                target = polygon;
+                helper = polygon::findGeoIntersectionsHelper;
+            }
+            case "tube" -> {
+                Tube tube = new Tube(axis, 1);
+                target = tube;
+                helper = tube::findGeoIntersectionsHelper;
+            }
+            case "cylinder" -> {
+                Cylinder cylinder = new Cylinder(axis, 1, 2);
+                target = cylinder;
+                helper = cylinder::findGeoIntersectionsHelper;
+            }
+            default -> throw new IllegalArgumentException("Unknown geometry " + geometry);
+        }
+        rays = rayMix(target, hitPercent, new Random(42));
+    }
+
+    /**
+     * Prepares shuffled random rays, a given percentage of them hitting the geometry.
+     * The rays start on a sphere of radius 5 around the origin and pass through
+     * random points of the cube [-1.5, 1.5]^3.
+     */
+    private static Ray[] rayMix(Geometry target, int hitPercent, Random random) {
+        int hits = RAYS * hitPercent / 100;
+        int misses = RAYS - hits;
+        List<Ray> mix = new ArrayList<>(RAYS);
+        for (int attempt = 0; hits + misses > 0; ++attempt) {
+            if (attempt == 1000 * RAYS)
+                throw new IllegalStateException("Can not prepare the ray mix for " + target.getClass().getSimpleName());
+            Vector out = new Vector(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+            Point head = Point.ZERO.add(out.normalize().scale(5));
+            Point through = new Point(3 * random.nextDouble() - 1.5,
+                    3 * random.nextDouble() - 1.5,
+                    3 * random.nextDouble() - 1.5);
+            Ray ray = new Ray(head, through.subtract(head));
+            List<GeoPoint> points = target.findGeoIntersections(ray);
+            boolean hit = points != null && !points.isEmpty();
+            if (hit && hits > 0) {
+                mix.add(ray);
+                --hits;
+            } else if (!hit && misses > 0) {
+                mix.add(ray);
+                --misses;
+            }
+        }
+        Collections.shuffle(mix, random);
+        return mix.toArray(new Ray[0]);
+    }
+
+    private Ray nextRay() {
+        return rays[next++ & (RAYS - 1)];
+    }
+
+    /**
+     * The bare intersection calculation of the geometry
+     */
+    @Benchmark
+    public List<GeoPoint> findGeoIntersectionsHelper() {
+        return helper.apply(nextRay());
+    }
+
+    /**
+     * All the intersections, including the bounding box rejection
+     */
+    @Benchmark
+    public List<GeoPoint> findGeoIntersections() {
+        return target.findGeoIntersections(nextRay());
+    }
+
+    /**
+     * The closest intersection, as looked for by the primary and the secondary rays
+     */
+    @Benchmark
+    public GeoPoint findClosestGeoIntersection() {
+        return target.findClosestGeoIntersection(nextRay());
+    }
+}
@@ -0,0 +1,97 @@
+package benchmarks;
+
+import geometries.Triangle;
+import geometries.TriangleMesh;
+import primitives.Point;
+import primitives.Vector;
+
+import java.util.function.Consumer;
+
+/**
+ * Measures the heap footprint of the geometry primitives. An array is filled with new
+ * objects and the used heap is compared before and after filling it.<br/>
+ * Run with a fixed heap for stable numbers, e.g. {@code java -Xms1g -Xmx1g benchmarks.MemoryFootprint}.
+ */
+public class MemoryFootprint {
+    /**
+     * Default amount of objects created per measurement
+     */
+    private static final int COUNT = 200_000;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : COUNT;
+
+        // warm up, so class loading is not measured
+        measure(1000, MemoryFootprint::triangles);
+
+        System.out.printf("Point:    %6.1f bytes%n", measure(count, MemoryFootprint::points));
+        System.out.printf("Vector:   %6.1f bytes%n", measure(count, MemoryFootprint::vectors));
+        System.out.printf("Triangle: %6.1f bytes (with its 3 own vertices)%n",
+                measure(count, MemoryFootprint::triangles));
+        System.out.printf("Mesh face: %5.1f bytes (with its BVH, %d faces)%n", meshFace(count), count);
+    }
+
+    private static void points(Object[] objects) {
+        for (int i = 0; i < objects.length; ++i)
+            objects[i] = new Point(i, i + 1, i + 2);
+    }
+
+    private static void vectors(Object[] objects) {
+        for (int i = 0; i < objects.length; ++i)
+            objects[i] = new Vector(i + 1, i + 2, i + 3);
+    }
+
+    private static void triangles(Object[] objects) {
+        for (int i = 0; i < objects.length; ++i)
+            objects[i] = new Triangle(new Point(i, 0, 0), new Point(i + 1, 0, 0), new Point(i, 1, 1));
+    }
+
+    /**
+     * Measures the heap held per face of a strip mesh, where the faces share their vertices
+     *
+     * @param count the amount of faces
+     * @return the average amount of bytes held per face
+     */
+    private static double meshFace(int count) {
+        int columns = count / 2 + 1;
+        double[] vertices = new double[6 * columns];
+        for (int i = 0; i < columns; ++i) {
+            vertices[6 * i] = i;
+            vertices[6 * i + 3] = i;
+            vertices[6 * i + 4] = 1;
+            vertices[6 * i + 5] = 1;
+        }
+        int[] indices = new int[3 * count];
+        for (int f = 0; f < count; ++f) {
+            int a = f / 2 * 2;
+            indices[3 * f] = f % 2 == 0 ? a : a + 1;
+            indices[3 * f + 1] = a + 2;
+            indices[3 * f + 2] = f % 2 == 0 ? a + 1 : a + 3;
+        }
+        double bytes = measure(1, objects -> objects[0] = new TriangleMesh(vertices.clone(), indices.clone()));
+        return bytes / count;
+    }
+
+    /**
+     * Creates objects and measures the heap they hold
+     *
+     * @param count  the amount of objects
+     * @param filler fills an array with new objects
+     * @return the average amount of bytes held per object
+     */
+    private static double measure(int count, Consumer<Object[]> filler) {
+        Object[] objects = new Object[count];
+        long before = usedMemory();
+        filler.accept(objects);
+        long after = usedMemory();
+        // keeps the objects reachable until the second measurement is done
+        if (objects[count - 1] == null) throw new IllegalStateException("Array not filled");
+        return (double) (after - before) / count;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; ++i) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
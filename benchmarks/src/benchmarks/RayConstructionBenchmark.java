@@ -0,0 +1,83 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+import renderer.Camera;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of constructing rays, with and without normalizing their direction.
+ * The primary rays are the camera rays through the pixels of a view plane, the secondary
+ * rays are reflection rays spawned from surface points with unit directions and normals.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RayConstructionBenchmark {
+    /**
+     * Amount of prepared directions, a power of 2
+     */
+    private static final int COUNT = 4096;
+    /**
+     * Edge of the pixel grid of the primary rays
+     */
+    private static final int GRID = 64;
+
+    private Camera camera;
+    private Point[] points;
+    private Vector[] directions;
+    private Vector[] normals;
+    private int next;
+
+    @Setup
+    public void setup() {
+        camera = ReferenceScene.TWO_SPHERES.camera();
+        Random random = new Random(3);
+        points = new Point[COUNT];
+        directions = new Vector[COUNT];
+        normals = new Vector[COUNT];
+        for (int i = 0; i < COUNT; ++i) {
+            points[i] = new Point(random.nextDouble(), random.nextDouble(), random.nextDouble());
+            Vector normal = randomUnit(random);
+            Vector l = randomUnit(random);
+            // the reflection of a unit vector is a unit vector
+            directions[i] = l.subtract(normal.scale(2 * l.dotProdouct(normal)));
+            normals[i] = normal;
+        }
+    }
+
+    private static Vector randomUnit(Random random) {
+        return new Vector(random.nextGaussian(), random.nextGaussian(), random.nextGaussian()).normalize();
+    }
+
+    @Benchmark
+    public Ray primaryRay() {
+        int pixel = next++ & (GRID * GRID - 1);
+        return camera.constructRay(GRID, GRID, pixel % GRID, pixel / GRID);
+    }
+
+    @Benchmark
+    public Ray secondaryNormalizing() {
+        int i = next++ & (COUNT - 1);
+        return new Ray(points[i], directions[i]);
+    }
+
+    @Benchmark
+    public Ray secondaryUnit() {
+        int i = next++ & (COUNT - 1);
+        return Ray.ofUnit(points[i], directions[i]);
+    }
+
+    @Benchmark
+    public Ray secondaryShifted() {
+        int i = next++ & (COUNT - 1);
+        return new Ray(points[i], directions[i], normals[i]);
+    }
+}
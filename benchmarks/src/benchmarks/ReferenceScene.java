@@ -0,0 +1,142 @@
+package benchmarks;
+
+import geometries.Sphere;
+import geometries.Triangle;
+import lighting.AmbientLight;
+import lighting.SpotLight;
+import primitives.*;
+import renderer.Camera;
+import renderer.Snow_man_Final_Image;
+import scene.Scene;
+
+import static java.awt.Color.*;
+
+/**
+ * Reference scenes for the benchmarks, the same scenes as in the reflection and
+ * refraction rendering tests and the final image test. Each call builds a new scene,
+ * so benchmarks never share mutable state.
+ */
+public enum ReferenceScene {
+    /**
+     * Transparent sphere around a smaller sphere, lighted by a spotlight
+     */
+    TWO_SPHERES(500, 500) {
+        @Override
+        public Scene scene() {
+            Scene scene = new Scene.SceneBuilder("Two spheres").build();
+            scene.getGeometries().add( //
+                    new Sphere(new Point(0, 0, -50), 50d).setEmission(new Color(BLUE)) //
+                            .setMaterial(new Material().setKd(0.4).setKs(0.3).setnShines(100).setKt(0.3)),
+                    new Sphere(new Point(0, 0, -50), 25d).setEmission(new Color(RED)) //
+                            .setMaterial(new Material().setKd(0.5).setKs(0.5).setnShines(100)));
+            scene.getLights().add( //
+                    new SpotLight(new Color(1000, 600, 0), new Point(-100, -100, 500), new Vector(-1, -1, -2)) //
+                            .setKl(0.0004).setKq(0.0000006));
+            return scene;
+        }
+
+        @Override
+        public Camera camera() {
+            return new Camera(new Point(0, 0, 1000), new Vector(0, 0, -1), new Vector(0, 1, 0)) //
+                    .setVPSize(150, 150).setVPDistance(1000);
+        }
+    },
+    /**
+     * Two spheres reflected by two mirror triangles
+     */
+    TWO_SPHERES_ON_MIRRORS(500, 500) {
+        @Override
+        public Scene scene() {
+            Scene scene = new Scene.SceneBuilder("Two spheres on mirrors").build();
+            scene.setAmbientLight(new AmbientLight(new Color(255, 255, 255), new Double3(0.1)));
+            scene.getGeometries().add( //
+                    new Sphere(new Point(-950, -900, -1000), 400d).setEmission(new Color(0, 50, 100)) //
+                            .setMaterial(new Material().setKd(0.25).setKs(0.25).setnShines(20)
+                                    .setKt(new Double3(0.5, 0, 0))),
+                    new Sphere(new Point(-950, -900, -1000), 200d).setEmission(new Color(100, 50, 20)) //
+                            .setMaterial(new Material().setKd(0.25).setKs(0.25).setnShines(20)),
+                    new Triangle(new Point(1500, -1500, -1500), new Point(-1500, 1500, -1500),
+                            new Point(670, 670, 3000)) //
+                            .setEmission(new Color(20, 20, 20)) //
+                            .setMaterial(new Material().setKr(1d)),
+                    new Triangle(new Point(1500, -1500, -1500), new Point(-1500, 1500, -1500),
+                            new Point(-1500, -1500, -2000)) //
+                            .setEmission(new Color(20, 20, 20)) //
+                            .setMaterial(new Material().setKr(new Double3(0.5, 0, 0.4))));
+            scene.getLights().add(new SpotLight(new Color(1020, 400, 400), new Point(-750, -750, -150),
+                    new Vector(-1, -1, -4)).setKl(0.00001).setKq(0.000005));
+            return scene;
+        }
+
+        @Override
+        public Camera camera() {
+            return new Camera(new Point(0, 0, 10000), new Vector(0, 0, -1), new Vector(0, 1, 0)) //
+                    .setVPSize(2500, 2500).setVPDistance(10000);
+        }
+    },
+    /**
+     * Two triangles lighted by a spotlight, with a partially transparent sphere producing partial shadow
+     */
+    TRIANGLES_TRANSPARENT_SPHERE(600, 600) {
+        @Override
+        public Scene scene() {
+            Scene scene = new Scene.SceneBuilder("Triangles and transparent sphere").build();
+            scene.setAmbientLight(new AmbientLight(new Color(WHITE), new Double3(0.15)));
+            scene.getGeometries().add( //
+                    new Triangle(new Point(-150, -150, -115), new Point(150, -150, -135),
+                            new Point(75, 75, -150)) //
+                            .setMaterial(new Material().setKd(0.5).setKs(0.5).setnShines(60)), //
+                    new Triangle(new Point(-150, -150, -115), new Point(-70, 70, -140), new Point(75, 75, -150)) //
+                            .setMaterial(new Material().setKd(0.5).setKs(0.5).setnShines(60)), //
+                    new Sphere(new Point(60, 50, -50), 30d).setEmission(new Color(BLUE)) //
+                            .setMaterial(new Material().setKd(0.2).setKs(0.2).setnShines(30).setKt(0.6)));
+            scene.getLights().add(new SpotLight(new Color(700, 400, 400), new Point(60, 50, 0),
+                    new Vector(0, 0, -1)).setKl(4E-5).setKq(2E-7));
+            return scene;
+        }
+
+        @Override
+        public Camera camera() {
+            return new Camera(new Point(0, 0, 1000), new Vector(0, 0, -1), new Vector(0, 1, 0)) //
+                    .setVPSize(200, 200).setVPDistance(1000);
+        }
+    },
+    /**
+     * The snowman final image, a few dozen spheres and triangles over a reflecting plane
+     */
+    SNOW_MAN(500, 500) {
+        @Override
+        public Scene scene() {
+            return new Snow_man_Final_Image().setScene();
+        }
+
+        @Override
+        public Camera camera() {
+            return new Snow_man_Final_Image().getCamera();
+        }
+    };
+
+    /**
+     * Resolution the scene is rendered at by the tests
+     */
+    public final int nX, nY;
+
+    ReferenceScene(int nX, int nY) {
+        this.nX = nX;
+        this.nY = nY;
+    }
+
+    /**
+     * Builds a new instance of the scene
+     *
+     * @return the scene
+     */
+    public abstract Scene scene();
+
+    /**
+     * Builds a camera looking at the scene, without an image writer and a ray tracer
+     *
+     * @return the camera
+     */
+    public abstract Camera camera();
+}
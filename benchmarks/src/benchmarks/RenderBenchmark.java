@@ -0,0 +1,121 @@
+package benchmarks;
+
+import primitives.Color;
+import primitives.Ray;
+import renderer.Camera;
+import renderer.ImageWriter;
+import renderer.RayTracerBase;
+import renderer.RayTracerBasic;
+import scene.Scene;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end render benchmark. Renders the reference scenes at their test resolutions,
+ * once through the single-threaded {@link Camera#renderImage()} and then through
+ * {@link Camera#renderImageMultiThreading()} with 1, 2, 4, 8 and all available threads.
+ * For each run it reports the wall time, the primary rays per second, and the speedup and
+ * parallel efficiency relative to the multi-threaded path on a single thread.<br/>
+ * Usage: {@code RenderBenchmark [repetitions] [scene names...]}
+ */
+public class RenderBenchmark {
+    /**
+     * Default amount of timed renders per configuration, the fastest one is reported
+     */
+    private static final int REPETITIONS = 3;
+
+    public static void main(String[] args) {
+        int repetitions = args.length > 0 ? Integer.parseInt(args[0]) : REPETITIONS;
+        List<ReferenceScene> scenes = new ArrayList<>();
+        for (int i = 1; i < args.length; ++i)
+            scenes.add(ReferenceScene.valueOf(args[i]));
+        if (scenes.isEmpty())
+            scenes.addAll(List.of(ReferenceScene.values()));
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> threadCounts = new ArrayList<>(List.of(1, 2, 4, 8));
+        if (!threadCounts.contains(cores)) threadCounts.add(cores);
+
+        System.out.printf("%d available processors, best of %d renders%n", cores, repetitions);
+        System.out.printf("%-30s %-16s %8s %10s %14s %8s %11s%n",
+                "scene", "path", "threads", "wall ms", "rays/s", "speedup", "efficiency");
+        for (ReferenceScene scene : scenes) {
+            // warm up the JIT on this scene
+            render(scene, 0, 1);
+            render(scene, cores, 1);
+
+            Result single = render(scene, 0, repetitions);
+            print(scene, "renderImage", 1, single, null);
+            Result base = null;
+            for (int threads : threadCounts) {
+                Result result = render(scene, threads, repetitions);
+                if (base == null) base = result;
+                print(scene, "multiThreading", threads, result, base);
+            }
+        }
+    }
+
+    /**
+     * Renders a scene a few times and keeps the fastest render
+     *
+     * @param scene       the scene
+     * @param threads     the amount of threads for the multi-threaded path, 0 for the single-threaded path
+     * @param repetitions the amount of renders
+     * @return the fastest render
+     */
+    private static Result render(ReferenceScene scene, int threads, int repetitions) {
+        Result best = null;
+        for (int i = 0; i < repetitions; ++i) {
+            CountingRayTracer rayTracer = new CountingRayTracer(scene.scene());
+            Camera camera = scene.camera()
+                    .setImageWriter(new ImageWriter(scene.name(), scene.nX, scene.nY))
+                    .setRayTracer(rayTracer);
+            long start = System.nanoTime();
+            if (threads == 0)
+                camera.renderImage();
+            else
+                camera.setMultithreading(threads).renderImageMultiThreading();
+            Result result = new Result(System.nanoTime() - start, rayTracer.rays.sum());
+            if (best == null || result.nanos < best.nanos) best = result;
+        }
+        return best;
+    }
+
+    private static void print(ReferenceScene scene, String path, int threads, Result result, Result base) {
+        String speedup = "", efficiency = "";
+        if (base != null) {
+            double factor = (double) base.nanos / result.nanos;
+            speedup = String.format("%.2f", factor);
+            efficiency = String.format("%.0f%%", 100 * factor / threads);
+        }
+        System.out.printf("%-30s %-16s %8d %10.1f %14.0f %8s %11s%n", scene, path, threads,
+                result.nanos / 1e6, result.rays * 1e9 / result.nanos, speedup, efficiency);
+    }
+
+    /**
+     * Wall time and amount of primary rays of a render
+     */
+    private record Result(long nanos, long rays) {
+    }
+
+    /**
+     * Ray tracer counting the primary rays it traces, from any amount of threads
+     */
+    private static class CountingRayTracer extends RayTracerBase {
+        private final RayTracerBase rayTracer;
+        private final LongAdder rays = new LongAdder();
+
+        CountingRayTracer(Scene scene) {
+            super(scene);
+            rayTracer = new RayTracerBasic(scene);
+        }
+
+        @Override
+        public Color traceRay(Ray ray) {
+            rays.increment();
+            return rayTracer.traceRay(ray);
+        }
+    }
+}
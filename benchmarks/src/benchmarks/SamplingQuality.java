@@ -0,0 +1,116 @@
+package benchmarks;
+
+import primitives.Color;
+import renderer.*;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Compares the anti-aliasing samplers by image quality against the amount of rays.
+ * A reference scene is rendered once with 32 x 32 stratified samples per pixel, and then
+ * with each sampler at 1, 4, 16 and 64 samples per pixel. For each render it reports the root
+ * mean square error of the 8 bit color channels against the reference, and for each sampler
+ * the fewest samples reaching the error of the default 8 x 8 stratified sampling.<br/>
+ * Usage: {@code SamplingQuality [scene name] [resolution]}
+ */
+public class SamplingQuality {
+    /**
+     * Default image edge in pixels, lower than the tests resolution to keep the reference render short
+     */
+    private static final int RESOLUTION = 100;
+    /**
+     * Edge of the samples grid of the reference render
+     */
+    private static final int REFERENCE_GRID = 32;
+    /**
+     * Edges of the samples grids compared
+     */
+    private static final int[] GRIDS = {1, 2, 4, 8};
+
+    private record Named(String name, LongFunction<Sampler> factory) {
+    }
+
+    public static void main(String[] args) {
+        ReferenceScene scene = args.length > 0 ? ReferenceScene.valueOf(args[0])
+                : ReferenceScene.TRIANGLES_TRANSPARENT_SPHERE;
+        int resolution = args.length > 1 ? Integer.parseInt(args[1]) : RESOLUTION;
+        List<Named> samplers = List.of(new Named("random", RandomSampler::new),
+                new Named("stratified", StratifiedSampler::new), new Named("halton", HaltonSampler::new),
+                new Named("sobol", SobolSampler::new), new Named("multi-jittered", MultiJitteredSampler::new));
+
+        // another seed than the compared renders, so the reference does not share their patterns
+        int[][] reference = render(scene, resolution, new StratifiedSampler(12345), REFERENCE_GRID);
+        double target = rmse(reference, render(scene, resolution, new StratifiedSampler(1), 8));
+
+        System.out.printf("%s at %dx%d, reference %dx%d stratified samples per pixel%n",
+                scene, resolution, resolution, REFERENCE_GRID, REFERENCE_GRID);
+        System.out.printf("%-16s %12s %10s%n", "sampler", "samples/px", "RMSE");
+        for (Named sampler : samplers) {
+            int fewest = 0;
+            for (int grid : GRIDS) {
+                double error = rmse(reference, render(scene, resolution, sampler.factory.apply(1), grid));
+                System.out.printf("%-16s %12d %10.3f%n", sampler.name, grid * grid, error);
+                if (fewest == 0 && error <= target) fewest = grid * grid;
+            }
+            System.out.printf("%-16s reaches the 64 stratified samples error (%.3f) with %s%n", sampler.name, target,
+                    fewest == 0 ? "more than 64 samples" : fewest + " samples");
+        }
+    }
+
+    /**
+     * Renders a scene with anti-aliasing on all the available threads
+     *
+     * @param scene      the scene
+     * @param resolution the image edge in pixels
+     * @param sampler    the sampler
+     * @param grid       the edge of the samples grid of a pixel
+     * @return the 8 bit RGB colors of the pixels
+     */
+    private static int[][] render(ReferenceScene scene, int resolution, Sampler sampler, int grid) {
+        RecordingImageWriter imageWriter = new RecordingImageWriter(resolution);
+        scene.camera().setImageWriter(imageWriter).setRayTracer(new RayTracerBasic(scene.scene()))
+                .setAntiAliasing(true).setSampler(sampler).setSamplesPerPixel(grid, grid)
+                .renderImageMultiThreading();
+        return imageWriter.pixels;
+    }
+
+    /**
+     * Calculates the root mean square error of an image
+     *
+     * @param reference the reference image
+     * @param image     the image
+     * @return the error, in 8 bit channel units
+     */
+    private static double rmse(int[][] reference, int[][] image) {
+        double sum = 0;
+        int count = 0;
+        for (int row = 0; row < image.length; ++row) {
+            for (int col = 0; col < image[row].length; ++col) {
+                for (int shift = 0; shift <= 16; shift += 8) {
+                    int delta = (reference[row][col] >> shift & 0xFF) - (image[row][col] >> shift & 0xFF);
+                    sum += delta * delta;
+                    ++count;
+                }
+            }
+        }
+        return Math.sqrt(sum / count);
+    }
+
+    /**
+     * Image writer keeping the pixel colors in memory instead of writing a file
+     */
+    private static class RecordingImageWriter extends ImageWriter {
+        private final int[][] pixels;
+
+        RecordingImageWriter(int resolution) {
+            super("sampling", resolution, resolution);
+            pixels = new int[resolution][resolution];
+        }
+
+        @Override
+        public void writePixel(int xIndex, int yIndex, Color color) {
+            pixels[yIndex][xIndex] = color.getColor().getRGB();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package benchmarks;
+
+import geometries.Intersectable.GeoPoint;
+import org.openjdk.jmh.annotations.*;
+import primitives.Color;
+import primitives.Point;
+import primitives.Ray;
+import renderer.RayTracerBasic;
+import scene.Scene;
+import scene.SceneGenerator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the intersection and the shading cost grow with the scene size
+ * and the amount of light sources, on generated scenes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SceneScalingBenchmark {
+    /**
+     * Amount of prepared rays, a power of 2
+     */
+    private static final int RAYS = 4096;
+    /**
+     * Edge of the generated scenes cube
+     */
+    private static final double SIZE = 100;
+
+    @Param({"spheres", "triangles", "mesh", "indexed"})
+    public String kind;
+
+    @Param({"100", "10000", "1000000"})
+    public int primitives;
+
+    @Param({"1", "16"})
+    public int lights;
+
+    @Param({"BVH", "GRID"})
+    public SceneGenerator.Acceleration acceleration;
+
+    private Scene scene;
+    private RayTracerBasic rayTracer;
+    private Ray[] rays;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SceneGenerator generator = new SceneGenerator(1).setPrimitives(primitives).setLights(lights)
+                .setSize(SIZE).setAcceleration(acceleration);
+        scene = switch (kind) {
+            case "spheres" -> generator.sphereField();
+            case "triangles" -> generator.triangleSoup();
+            case "mesh" -> generator.tessellatedMesh();
+            case "indexed" -> generator.indexedMesh();
+            default -> throw new IllegalArgumentException("Unknown scene kind " + kind);
+        };
+        rayTracer = new RayTracerBasic(scene);
+
+        // primary rays of a camera at (0, 0, 2 * SIZE) through the scene cube front face
+        Random random = new Random(2);
+        Point head = new Point(0, 0, 2 * SIZE);
+        rays = new Ray[RAYS];
+        for (int i = 0; i < RAYS; ++i) {
+            Point target = new Point((random.nextDouble() - 0.5) * SIZE, (random.nextDouble() - 0.5) * SIZE, SIZE / 2);
+            rays[i] = new Ray(head, target.subtract(head));
+        }
+        // builds the acceleration structure before measuring
+        scene.getGeometries().findClosestGeoIntersection(rays[0]);
+    }
+
+    private Ray nextRay() {
+        return rays[next++ & (RAYS - 1)];
+    }
+
+    @Benchmark
+    public GeoPoint findClosestGeoIntersection() {
+        return scene.getGeometries().findClosestGeoIntersection(nextRay());
+    }
+
+    @Benchmark
+    public Color traceRay() {
+        return rayTracer.traceRay(nextRay());
+    }
+}
@@ -0,0 +1,49 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import primitives.Color;
+import primitives.Ray;
+import renderer.Camera;
+import renderer.RayTracerBasic;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures tracing and shading single rays of the reference scenes, including
+ * the shadow, reflection and refraction rays they spawn. The rays are the
+ * pixel centers of a coarse grid over the view plane.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShadingBenchmark {
+    /**
+     * Edge of the pixel grid the rays pass through, a power of 2
+     */
+    private static final int GRID = 64;
+
+    @Param
+    public ReferenceScene scene;
+
+    private RayTracerBasic rayTracer;
+    private Ray[] rays;
+    private int next;
+
+    @Setup
+    public void setup() {
+        rayTracer = new RayTracerBasic(scene.scene());
+        Camera camera = scene.camera();
+        rays = new Ray[GRID * GRID];
+        for (int i = 0; i < GRID; ++i)
+            for (int j = 0; j < GRID; ++j)
+                rays[i * GRID + j] = camera.constructRay(GRID, GRID, j, i);
+    }
+
+    @Benchmark
+    public Color traceRay() {
+        return rayTracer.traceRay(rays[next++ & (GRID * GRID - 1)]);
+    }
+}
@@ -0,0 +1,293 @@
+package geometries;
+
+import geometries.Intersectable.GeoPoint;
+import primitives.Double3;
+import primitives.Point;
+import primitives.Ray;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A node of a bounding volume hierarchy (BVH) over intersectable objects.
+ * The hierarchy is built top-down, each split chosen by the surface area heuristic (SAH)
+ * over binned object centers. A ray only visits nodes whose boxes it crosses.
+ */
+final class BVHNode {
+    /**
+     * Number of candidate split positions per axis
+     */
+    private static final int BINS = 12;
+    /**
+     * Maximum number of objects kept in a leaf without trying to split it
+     */
+    private static final int MAX_LEAF_SIZE = 2;
+    /**
+     * Cost of visiting a child node relatively to intersecting a single object
+     */
+    private static final double TRAVERSAL_COST = 0.5;
+
+    /**
+     * Box bounding all the objects under the node, {@code null} for a node that must always be visited
+     */
+    final BoundingBox box;
+    /**
+     * Child nodes, {@code null} in a leaf
+     */
+    final BVHNode left, right;
+    /**
+     * Objects held directly by the node, {@code null} if there are none
+     */
+    final Intersectable[] items;
+
+    private BVHNode(BoundingBox box, BVHNode left, BVHNode right, Intersectable[] items) {
+        this.box = box;
+        this.left = left;
+        this.right = right;
+        this.items = items;
+    }
+
+    /**
+     * Builds a hierarchy over the given objects. Objects without a bounding box are kept
+     * at the root and tested against every ray.
+     *
+     * @param objects the objects to be arranged in the hierarchy
+     * @return the root node of the hierarchy
+     */
+    static BVHNode build(List<Intersectable> objects) {
+        List<Entry> bounded = new ArrayList<>(objects.size());
+        List<Intersectable> unbounded = new LinkedList<>();
+        for (Intersectable object : objects) {
+            BoundingBox box = object.getBoundingBox();
+            if (box == null) unbounded.add(object);
+            else bounded.add(new Entry(object, box));
+        }
+        BVHNode tree = bounded.isEmpty() ? null : build(bounded.toArray(new Entry[0]), 0, bounded.size());
+        if (unbounded.isEmpty()) return tree;
+        return new BVHNode(null, tree, null, unbounded.toArray(new Intersectable[0]));
+    }
+
+    /**
+     * Builds a sub-tree over a range of the entries array, reordering the range in place.
+     *
+     * @param entries the entries array
+     * @param from    first index of the range (inclusive)
+     * @param to      last index of the range (exclusive)
+     * @return the sub-tree root
+     */
+    private static BVHNode build(Entry[] entries, int from, int to) {
+        BoundingBox box = entries[from].box;
+        double cMinX = entries[from].cx, cMinY = entries[from].cy, cMinZ = entries[from].cz;
+        double cMaxX = cMinX, cMaxY = cMinY, cMaxZ = cMinZ;
+        for (int i = from + 1; i < to; ++i) {
+            Entry e = entries[i];
+            box = box.union(e.box);
+            cMinX = Math.min(cMinX, e.cx);
+            cMinY = Math.min(cMinY, e.cy);
+            cMinZ = Math.min(cMinZ, e.cz);
+            cMaxX = Math.max(cMaxX, e.cx);
+            cMaxY = Math.max(cMaxY, e.cy);
+            cMaxZ = Math.max(cMaxZ, e.cz);
+        }
+
+        int count = to - from;
+        if (count <= MAX_LEAF_SIZE) return leaf(box, entries, from, to);
+
+        // look for the cheapest split over all three axes
+        double[] cMin = {cMinX, cMinY, cMinZ};
+        double[] cMax = {cMaxX, cMaxY, cMaxZ};
+        double bestCost = Double.POSITIVE_INFINITY;
+        int bestAxis = -1;
+        int bestBin = -1;
+        for (int axis = 0; axis < 3; ++axis) {
+            double extent = cMax[axis] - cMin[axis];
+            if (extent <= 0) continue;
+
+            BoundingBox[] binBoxes = new BoundingBox[BINS];
+            int[] binCounts = new int[BINS];
+            for (int i = from; i < to; ++i) {
+                int bin = bin(entries[i].center(axis), cMin[axis], extent);
+                binCounts[bin]++;
+                binBoxes[bin] = binBoxes[bin] == null ? entries[i].box : binBoxes[bin].union(entries[i].box);
+            }
+
+            // sweep from the right to get the areas of all right hand side candidates
+            double[] rightAreas = new double[BINS];
+            int[] rightCounts = new int[BINS];
+            BoundingBox acc = null;
+            int accCount = 0;
+            for (int bin = BINS - 1; bin > 0; --bin) {
+                if (binBoxes[bin] != null) acc = acc == null ? binBoxes[bin] : acc.union(binBoxes[bin]);
+                accCount += binCounts[bin];
+                rightAreas[bin] = acc == null ? 0 : acc.surfaceArea();
+                rightCounts[bin] = accCount;
+            }
+
+            acc = null;
+            accCount = 0;
+            for (int bin = 0; bin < BINS - 1; ++bin) {
+                if (binBoxes[bin] != null) acc = acc == null ? binBoxes[bin] : acc.union(binBoxes[bin]);
+                accCount += binCounts[bin];
+                if (accCount == 0 || rightCounts[bin + 1] == 0) continue;
+                double cost = acc.surfaceArea() * accCount + rightAreas[bin + 1] * rightCounts[bin + 1];
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestAxis = axis;
+                    bestBin = bin;
+                }
+            }
+        }
+
+        // all centers coincide, or splitting does not pay off
+        double area = box.surfaceArea();
+        if (bestAxis < 0 || (area > 0 && TRAVERSAL_COST + bestCost / area >= count))
+            return leaf(box, entries, from, to);
+
+        // partition the range around the chosen bin border
+        double extent = cMax[bestAxis] - cMin[bestAxis];
+        int mid = from;
+        for (int i = from; i < to; ++i) {
+            if (bin(entries[i].center(bestAxis), cMin[bestAxis], extent) <= bestBin) {
+                Entry tmp = entries[i];
+                entries[i] = entries[mid];
+                entries[mid++] = tmp;
+            }
+        }
+        return new BVHNode(box, build(entries, from, mid), build(entries, mid, to), null);
+    }
+
+    private static int bin(double center, double min, double extent) {
+        int bin = (int) (BINS * (center - min) / extent);
+        return Math.min(bin, BINS - 1);
+    }
+
+    private static BVHNode leaf(BoundingBox box, Entry[] entries, int from, int to) {
+        Intersectable[] items = new Intersectable[to - from];
+        for (int i = from; i < to; ++i)
+            items[i - from] = entries[i].object;
+        return new BVHNode(box, null, null, items);
+    }
+
+    /**
+     * Collects the intersections of a ray with all the objects under the node.
+     *
+     * @param ray    the ray
+     * @param result the list collecting the intersections so far, may be {@code null}
+     * @return the list of the intersections, or {@code null} if there are none
+     */
+    List<GeoPoint> findGeoIntersections(Ray ray, List<GeoPoint> result) {
+        if (box != null && !box.intersects(ray)) return result;
+        if (items != null) {
+            for (Intersectable item : items) {
+                List<GeoPoint> itemPoints = item.findGeoIntersections(ray);
+                if (itemPoints != null) {
+                    if (result == null) result = new LinkedList<>();
+                    result.addAll(itemPoints);
+                }
+            }
+        }
+        if (left != null) result = left.findGeoIntersections(ray, result);
+        if (right != null) result = right.findGeoIntersections(ray, result);
+        return result;
+    }
+
+    /**
+     * Finds the intersection closest to the ray head among the objects under the node.
+     * Child nodes are visited nearest first, and a node is skipped when the ray enters
+     * its box beyond the best intersection found so far.
+     *
+     * @param ray  the ray
+     * @param best a single cell holding the distance of the best intersection so far, updated on return
+     * @return the closest intersection under the node nearer than best[0], or {@code null} if there is none
+     */
+    GeoPoint findClosestGeoIntersection(Ray ray, double[] best) {
+        GeoPoint closest = null;
+        if (items != null) {
+            for (Intersectable item : items) {
+                GeoPoint gp = item.findClosestGeoIntersection(ray, best[0]);
+                if (gp != null) {
+                    closest = gp;
+                    best[0] = gp.distanceAlong(ray);
+                }
+            }
+        }
+
+        double leftEntry = entryDistance(left, ray, best[0]);
+        double rightEntry = entryDistance(right, ray, best[0]);
+        BVHNode first = left, second = right;
+        double secondEntry = rightEntry;
+        if (rightEntry < leftEntry) {
+            first = right;
+            second = left;
+            secondEntry = leftEntry;
+        }
+        if (first != null && Math.min(leftEntry, rightEntry) < best[0]) {
+            GeoPoint gp = first.findClosestGeoIntersection(ray, best);
+            if (gp != null) closest = gp;
+        }
+        if (second != null && secondEntry < best[0]) {
+            GeoPoint gp = second.findClosestGeoIntersection(ray, best);
+            if (gp != null) closest = gp;
+        }
+        return closest;
+    }
+
+    /**
+     * Finds how much light passes through the objects under the node along a ray segment.
+     *
+     * @param ray         the ray from the shaded point towards the light
+     * @param maxDistance the distance from the ray head to the light source
+     * @param minK        the transparency below which the light is considered fully blocked
+     * @param ktr         the transparency accumulated so far
+     * @return the accumulated transparency, {@link Double3#ZERO} once the light is blocked
+     */
+    Double3 findTransparency(Ray ray, double maxDistance, double minK, Double3 ktr) {
+        if (box != null && !box.intersects(ray, maxDistance)) return ktr;
+        if (items != null) {
+            for (Intersectable item : items) {
+                ktr = ktr.product(item.findTransparency(ray, maxDistance, minK));
+                if (ktr.lowerThan(minK)) return Double3.ZERO;
+            }
+        }
+        if (left != null) {
+            ktr = left.findTransparency(ray, maxDistance, minK, ktr);
+            if (ktr == Double3.ZERO) return ktr;
+        }
+        if (right != null)
+            ktr = right.findTransparency(ray, maxDistance, minK, ktr);
+        return ktr;
+    }
+
+    /**
+     * Calculates where the ray enters a node box
+     *
+     * @return the entry distance, 0 for a node without a box, or infinity if there is no node or it is missed
+     */
+    private static double entryDistance(BVHNode node, Ray ray, double maxDistance) {
+        if (node == null) return Double.POSITIVE_INFINITY;
+        return node.box == null ? 0 : node.box.entryDistance(ray, maxDistance);
+    }
+
+    /**
+     * An object with its cached bounding box and box center, used while building
+     */
+    private static final class Entry {
+        final Intersectable object;
+        final BoundingBox box;
+        final double cx, cy, cz;
+
+        Entry(Intersectable object, BoundingBox box) {
+            this.object = object;
+            this.box = box;
+            Point center = box.getCenter();
+            cx = center.getX();
+            cy = center.getY();
+            cz = center.getZ();
+        }
+
+        double center(int axis) {
+            return axis == 0 ? cx : axis == 1 ? cy : cz;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package geometries;
+
+import primitives.Point;
+import primitives.Ray;
+
+/**
+ * Axis aligned bounding box (AABB) of an intersectable object in 3D space.
+ * The box is used to reject rays that can not hit the object before running
+ * the full intersection calculation.
+ */
+public class BoundingBox {
+    /**
+     * Lower corner coordinates of the box
+     */
+    final double minX, minY, minZ;
+    /**
+     * Upper corner coordinates of the box
+     */
+    final double maxX, maxY, maxZ;
+
+    /**
+     * Constructs a bounding box from its lower and upper corner coordinates.
+     *
+     * @param minX lower x coordinate
+     * @param minY lower y coordinate
+     * @param minZ lower z coordinate
+     * @param maxX upper x coordinate
+     * @param maxY upper y coordinate
+     * @param maxZ upper z coordinate
+     */
+    public BoundingBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    /**
+     * Constructs the smallest bounding box that contains all the given points.
+     *
+     * @param points the points to be bounded
+     */
+    public BoundingBox(Point... points) {
+        double x0 = Double.POSITIVE_INFINITY, y0 = Double.POSITIVE_INFINITY, z0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY, z1 = Double.NEGATIVE_INFINITY;
+        for (Point p : points) {
+            x0 = Math.min(x0, p.getX());
+            y0 = Math.min(y0, p.getY());
+            z0 = Math.min(z0, p.getZ());
+            x1 = Math.max(x1, p.getX());
+            y1 = Math.max(y1, p.getY());
+            z1 = Math.max(z1, p.getZ());
+        }
+        minX = x0;
+        minY = y0;
+        minZ = z0;
+        maxX = x1;
+        maxY = y1;
+        maxZ = z1;
+    }
+
+    /**
+     * Returns the smallest bounding box that contains both this box and the other box.
+     *
+     * @param other the other box
+     * @return the union box
+     */
+    public BoundingBox union(BoundingBox other) {
+        return new BoundingBox(
+                Math.min(minX, other.minX), Math.min(minY, other.minY), Math.min(minZ, other.minZ),
+                Math.max(maxX, other.maxX), Math.max(maxY, other.maxY), Math.max(maxZ, other.maxZ));
+    }
+
+    /**
+     * @return the center point of the box
+     */
+    public Point getCenter() {
+        return new Point((minX + maxX) / 2, (minY + maxY) / 2, (minZ + maxZ) / 2);
+    }
+
+    /**
+     * @return the lower corner of the box
+     */
+    public Point getMin() {
+        return new Point(minX, minY, minZ);
+    }
+
+    /**
+     * @return the upper corner of the box
+     */
+    public Point getMax() {
+        return new Point(maxX, maxY, maxZ);
+    }
+
+    /**
+     * Calculates the surface area of the box, used by the surface area heuristic
+     *
+     * @return the surface area of the box
+     */
+    public double surfaceArea() {
+        double dx = maxX - minX;
+        double dy = maxY - minY;
+        double dz = maxZ - minZ;
+        return 2 * (dx * dy + dy * dz + dz * dx);
+    }
+
+    /**
+     * Checks whether a ray passes through the box (slab test) within the ray interval.
+     *
+     * @param ray the ray to check
+     * @return true if the ray crosses the box within its interval, false otherwise
+     */
+    public boolean intersects(Ray ray) {
+        return intersects(ray, ray.getTMax());
+    }
+
+    /**
+     * Checks whether a ray reaches the box before a given distance from its head (slab test).
+     *
+     * @param ray         the ray to check
+     * @param maxDistance the distance from the ray head where the ray ends
+     * @return true if the ray crosses the box between its interval start and maxDistance, false otherwise
+     */
+    public boolean intersects(Ray ray, double maxDistance) {
+        return entryDistance(ray, maxDistance) != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Calculates the distance from the ray head to the point where the ray enters the box.
+     * The slab bounds are picked by the ray direction signs and scaled by the cached
+     * inverse direction, so the test needs neither divisions nor comparisons of the bounds.
+     * A NaN bound (ray parallel to the slab and starting on its face) never narrows the range.
+     *
+     * @param ray         the ray
+     * @param maxDistance the distance from the ray head where the ray ends
+     * @return the entry distance (the ray interval start if the ray starts inside the box),
+     * or {@link Double#POSITIVE_INFINITY} if the ray does not reach the box before maxDistance
+     */
+    public double entryDistance(Ray ray, double maxDistance) {
+        Point p0 = ray.getP0();
+        int signs = ray.getSigns();
+        double near = ray.getTMin();
+        double far = Math.min(maxDistance, ray.getTMax());
+
+        double inv = ray.getInvDirX();
+        boolean negative = (signs & Ray.NEGATIVE_X) != 0;
+        double t = ((negative ? maxX : minX) - p0.getX()) * inv;
+        if (t > near) near = t;
+        t = ((negative ? minX : maxX) - p0.getX()) * inv;
+        if (t < far) far = t;
+        if (near > far) return Double.POSITIVE_INFINITY;
+
+        inv = ray.getInvDirY();
+        negative = (signs & Ray.NEGATIVE_Y) != 0;
+        t = ((negative ? maxY : minY) - p0.getY()) * inv;
+        if (t > near) near = t;
+        t = ((negative ? minY : maxY) - p0.getY()) * inv;
+        if (t < far) far = t;
+        if (near > far) return Double.POSITIVE_INFINITY;
+
+        inv = ray.getInvDirZ();
+        negative = (signs & Ray.NEGATIVE_Z) != 0;
+        t = ((negative ? maxZ : minZ) - p0.getZ()) * inv;
+        if (t > near) near = t;
+        t = ((negative ? minZ : maxZ) - p0.getZ()) * inv;
+        if (t < far) far = t;
+        return near <= far ? near : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public String toString() {
+        return "BoundingBox{" +
+                "min=(" + minX + "," + minY + "," + minZ + ")" +
+                ", max=(" + maxX + "," + maxY + "," + maxZ + ")" +
+                '}';
+    }
+}
@@ -4,11 +4,18 @@ import primitives.Point;
 import primitives.Ray;
 import primitives.Vector;
 
+import java.util.LinkedList;
+import java.util.List;
+
 import static primitives.Util.alignZero;
 import static primitives.Util.isZero;
 
 public class Cylinder extends Tube {
     double height;
+    /**
+     * The box bounding the cylinder
+     */
+    private final BoundingBox box;
 
     /**
      * Constructs a Cylinder object with the specified parameters.
@@ -26,6 +33,58 @@ public class Cylinder extends Tube {
         if(height<=0)
             throw new IllegalArgumentException("The height low equal to zero!");
         this.height = height;
+
+        // the bases are discs around the axis, their extent on each axis is r*sqrt(1-v_i^2)
+        Point p0 = axisRay.getP0();
+        Vector v = axisRay.getDir();
+        Point p1 = axisRay.getPoint(height);
+        double ex = radius * Math.sqrt(Math.max(0, 1 - v.getX() * v.getX()));
+        double ey = radius * Math.sqrt(Math.max(0, 1 - v.getY() * v.getY()));
+        double ez = radius * Math.sqrt(Math.max(0, 1 - v.getZ() * v.getZ()));
+        box = new BoundingBox(
+                Math.min(p0.getX(), p1.getX()) - ex, Math.min(p0.getY(), p1.getY()) - ey,
+                Math.min(p0.getZ(), p1.getZ()) - ez,
+                Math.max(p0.getX(), p1.getX()) + ex, Math.max(p0.getY(), p1.getY()) + ey,
+                Math.max(p0.getZ(), p1.getZ()) + ez);
+    }
+
+    /**
+     * Returns the box bounding the cylinder, including both its bases.
+     *
+     * @return the bounding box of the cylinder
+     */
+    @Override
+    public BoundingBox getBoundingBox() {
+        return box;
+    }
+
+    /**
+     * Helper method to find the intersections between the given ray and the cylinder.
+     * The intersections with the infinite tube are kept only between the two bases,
+     * so that the cylinder stays inside its bounding box.
+     *
+     * @param ray the ray for which to find the intersections
+     * @return a list of GeoPoints representing the intersections between the ray and the cylinder,
+     *         or {@code null} if no intersections are found
+     */
+    @Override
+    public List<GeoPoint> findGeoIntersectionsHelper(Ray ray) {
+        List<GeoPoint> tubePoints = super.findGeoIntersectionsHelper(ray);
+        if (tubePoints == null)
+            return null;
+
+        Point p0 = axisRay.getP0();
+        Vector v = axisRay.getDir();
+        List<GeoPoint> points = null;
+        for (GeoPoint gp : tubePoints) {
+            double t = alignZero(gp.point.subtract(p0).dotProdouct(v));
+            if (t > 0 && alignZero(t - height) < 0) {
+                if (points == null)
+                    points = new LinkedList<>();
+                points.add(gp);
+            }
+        }
+        return points;
     }
 
     /**
@@ -1,13 +1,38 @@
 package geometries;
 
+import primitives.Double3;
+import primitives.Point;
 import primitives.Ray;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 public class Geometries extends Intersectable {
     List<Intersectable> geometries;
+    /**
+     * Whether the intersections are found through a bounding volume hierarchy
+     */
+    private boolean bvh = false;
+    /**
+     * Root of the bounding volume hierarchy, built on demand and dropped whenever geometries are added,
+     * to this object or to a nested Geometries
+     */
+    private volatile BVHNode root = null;
+    /**
+     * Cached bounding box of all the geometries, valid only while boxReady is set
+     */
+    private volatile BoundingBox box = null;
+    private volatile boolean boxReady = false;
+    /**
+     * The Geometries containing this one, whose cached data depends on the geometries of this one.
+     * Compared by identity, each parent is registered once however many times it holds this one.
+     * Guarded by its own lock.
+     */
+    private final Set<Geometries> parents = Collections.newSetFromMap(new IdentityHashMap<>());
 
     /**
      * empty constructor
@@ -22,16 +47,145 @@ public class Geometries extends Intersectable {
      * @param geometries
      */
     public Geometries(Intersectable... geometries) {
+        checkCycles(geometries);
         this.geometries = new LinkedList<>(Arrays.asList(geometries));
+        adopt(geometries);
     }
 
     /**
      * Adds one or more Intersectable objects to the list of geometries.
      *
      * @param geometries the Intersectable objects to add
+     * @throws IllegalArgumentException if one of them is this object or a Geometries containing it
      */
     public void add(Intersectable... geometries) {
+        checkCycles(geometries);
         this.geometries.addAll(Arrays.asList(geometries));
+        adopt(geometries);
+        changed();
+    }
+
+    /**
+     * Registers this object as the parent of the nested Geometries among its new items,
+     * so their changes reach its cached data
+     *
+     * @param geometries the new items
+     */
+    private void adopt(Intersectable... geometries) {
+        for (Intersectable item : geometries)
+            if (item instanceof Geometries nested)
+                synchronized (nested.parents) {
+                    nested.parents.add(this);
+                }
+    }
+
+    /**
+     * Rejects the new items which would make this object contain itself
+     *
+     * @param geometries the new items
+     * @throws IllegalArgumentException if one of them is this object or a Geometries containing it
+     */
+    private void checkCycles(Intersectable... geometries) {
+        for (Intersectable item : geometries)
+            if (item instanceof Geometries nested && isWithin(nested))
+                throw new IllegalArgumentException("A Geometries can't contain itself");
+    }
+
+    /**
+     * Checks whether this object is a Geometries or is nested in it, at any depth
+     *
+     * @param geometries the possibly containing Geometries
+     * @return true if geometries is this object or one of its ancestors
+     */
+    private boolean isWithin(Geometries geometries) {
+        if (geometries == this)
+            return true;
+        for (Geometries parent : parents())
+            if (parent.isWithin(geometries))
+                return true;
+        return false;
+    }
+
+    /**
+     * @return a snapshot of the Geometries containing this one
+     */
+    private List<Geometries> parents() {
+        synchronized (parents) {
+            return List.copyOf(parents);
+        }
+    }
+
+    /**
+     * Drops the bounding box and the hierarchy of this object and of all the Geometries containing it,
+     * after its geometries have changed, since they hold the boxes of the nested geometries
+     */
+    protected void changed() {
+        root = null;
+        boxReady = false;
+        for (Geometries parent : parents())
+            parent.changed();
+    }
+
+    /**
+     * Turns the bounding volume hierarchy mode on or off.
+     * In this mode each ray is tested only against the geometries whose bounding boxes it crosses.
+     * The hierarchy is built (with the surface area heuristic) on the first intersection query
+     * after the geometries list has been changed.
+     *
+     * @param bvh {@code true} to use a bounding volume hierarchy, {@code false} to test all the geometries
+     * @return the Geometries object itself
+     */
+    public Geometries setBVH(boolean bvh) {
+        this.bvh = bvh;
+        root = null;
+        return this;
+    }
+
+    /**
+     * Returns the bounding box of all the geometries. The box is calculated once
+     * and kept until more geometries are added, to this object or to a nested Geometries.
+     *
+     * @return the bounding box, or {@code null} if the list is empty or contains an unbounded geometry
+     */
+    @Override
+    public BoundingBox getBoundingBox() {
+        if (boxReady)
+            return box;
+        BoundingBox union = null;
+        for (Intersectable item : geometries) {
+            BoundingBox itemBox = item.getBoundingBox();
+            if (itemBox == null) {
+                union = null;
+                break;
+            }
+            union = union == null ? itemBox : union.union(itemBox);
+        }
+        box = union;
+        boxReady = true;
+        return union;
+    }
+
+    @Override
+    public void prepareOrigin(Point origin) {
+        for (Intersectable item : geometries)
+            item.prepareOrigin(origin);
+    }
+
+    /**
+     * Returns the bounding volume hierarchy, building it if needed.
+     *
+     * @return the root of the hierarchy, or {@code null} if there are no geometries
+     */
+    private BVHNode getRoot() {
+        BVHNode node = root;
+        if (node == null) {
+            synchronized (this) {
+                node = root;
+                if (node == null)
+                    root = node = BVHNode.build(geometries);
+            }
+        }
+        return node;
     }
 
     /**
@@ -43,6 +197,10 @@ public class Geometries extends Intersectable {
      */
     @Override
     public List<GeoPoint> findGeoIntersectionsHelper(Ray ray) {
+        if (bvh) {
+            BVHNode node = getRoot();
+            return node == null ? null : node.findGeoIntersections(ray, null);
+        }
         List<GeoPoint> pointList = null;
         for (Intersectable item : geometries) {
             List<GeoPoint> itemPointList = item.findGeoIntersections(ray);
@@ -55,5 +213,54 @@ public class Geometries extends Intersectable {
         }
         return pointList;
     }
+
+    /**
+     * Helper method to find the closest intersection among all the geometries.
+     * Each geometry is asked only for intersections nearer than the best one found so far.
+     *
+     * @param ray         the ray for which to find the intersection
+     * @param maxDistance the distance from the ray head beyond which intersections are ignored
+     * @return the closest intersection nearer than maxDistance, or {@code null} if there is none
+     */
+    @Override
+    protected GeoPoint findClosestGeoIntersectionHelper(Ray ray, double maxDistance) {
+        if (bvh) {
+            BVHNode node = getRoot();
+            return node == null ? null : node.findClosestGeoIntersection(ray, new double[]{maxDistance});
+        }
+        GeoPoint closest = null;
+        for (Intersectable item : geometries) {
+            GeoPoint gp = item.findClosestGeoIntersection(ray, maxDistance);
+            if (gp != null) {
+                closest = gp;
+                maxDistance = gp.distanceAlong(ray);
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Helper method to find how much light passes through all the geometries along a ray segment.
+     * The geometries are checked one by one until the light is found to be blocked.
+     *
+     * @param ray         the ray from the shaded point towards the light
+     * @param maxDistance the distance from the ray head to the light source
+     * @param minK        the transparency below which the light is considered fully blocked
+     * @return the transparency along the segment, {@link Double3#ZERO} if the light is blocked
+     */
+    @Override
+    protected Double3 findTransparencyHelper(Ray ray, double maxDistance, double minK) {
+        if (bvh) {
+            BVHNode node = getRoot();
+            return node == null ? Double3.ONE : node.findTransparency(ray, maxDistance, minK, Double3.ONE);
+        }
+        Double3 ktr = Double3.ONE;
+        for (Intersectable item : geometries) {
+            ktr = ktr.product(item.findTransparency(ray, maxDistance, minK));
+            if (ktr.lowerThan(minK))
+                return Double3.ZERO;
+        }
+        return ktr;
+    }
 }
 
@@ -1,8 +1,10 @@
 package geometries;
 
 import primitives.Color;
+import primitives.Double3;
 import primitives.Material;
 import primitives.Point;
+import primitives.Ray;
 import primitives.Vector;
 
 /**
@@ -62,6 +64,22 @@ public abstract class Geometry extends Intersectable {
         return this;
     }
 
+    /**
+     * Helper method to find how much light passes through the geometry along a ray segment.
+     * An opaque geometry blocks the light with any intersection, so the nearest one is enough.
+     *
+     * @param ray         the ray from the shaded point towards the light
+     * @param maxDistance the distance from the ray head to the light source
+     * @param minK        the transparency below which the light is considered fully blocked
+     * @return the transparency along the segment, {@link Double3#ZERO} if the light is blocked
+     */
+    @Override
+    protected Double3 findTransparencyHelper(Ray ray, double maxDistance, double minK) {
+        if (material.Kt.lowerThan(minK))
+            return findClosestGeoIntersectionHelper(ray, maxDistance) == null ? Double3.ONE : Double3.ZERO;
+        return super.findTransparencyHelper(ray, maxDistance, minK);
+    }
+
 
 
 
@@ -1,8 +1,11 @@
 package geometries;
 
+import primitives.Double3;
 import primitives.Point;
 import primitives.Ray;
+import primitives.Vector;
 
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 
@@ -32,12 +35,180 @@ public abstract class Intersectable {
     /**
      * Finds the intersections between the given ray and the geometry by calling the
      * abstract findGeoIntersectionsHelper() method implemented by subclasses.
+     * Rays that miss the bounding box of the geometry are rejected without calling the helper.
+     * The intersections of a limited ray outside its interval are dropped.
      *
      * @param ray the ray for which to find the intersections
      * @return a list of GeoPoints representing the intersections between the ray and the geometry
      */
     public final List<GeoPoint> findGeoIntersections(Ray ray) {
-        return findGeoIntersectionsHelper(ray);
+        BoundingBox box = getBoundingBox();
+        if (box != null && !box.intersects(ray))
+            return null;
+        List<GeoPoint> points = findGeoIntersectionsHelper(ray);
+        return points == null || !ray.isLimited() ? points : inInterval(points, ray);
+    }
+
+    /**
+     * Keeps the intersections lying in the interval of a limited ray
+     *
+     * @param points the intersections of the ray
+     * @param ray    the limited ray
+     * @return the intersections in the interval, or {@code null} if there are none
+     */
+    private static List<GeoPoint> inInterval(List<GeoPoint> points, Ray ray) {
+        List<GeoPoint> kept = new LinkedList<>();
+        for (GeoPoint gp : points)
+            if (ray.inInterval(gp.distanceAlong(ray)))
+                kept.add(gp);
+        return kept.isEmpty() ? null : kept;
+    }
+
+    /**
+     * Finds the intersection closest to the ray head, in the ray interval.
+     *
+     * @param ray the ray for which to find the intersection
+     * @return the closest intersection, or {@code null} if there is none
+     */
+    public final GeoPoint findClosestGeoIntersection(Ray ray) {
+        return findClosestGeoIntersection(ray, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Finds the intersection closest to the ray head, as long as it is nearer than a given distance.
+     * Intersections beyond the distance are skipped, so a caller looking for the closest hit among
+     * several geometries passes the distance of the best hit found so far.
+     * Rays that miss the bounding box of the geometry before that distance are rejected
+     * without calling the helper. The closest intersection of a limited ray is picked
+     * from the intersections in its interval, the helpers do not know the interval.
+     *
+     * @param ray         the ray for which to find the intersection
+     * @param maxDistance the distance from the ray head beyond which intersections are ignored
+     * @return the closest intersection nearer than maxDistance, or {@code null} if there is none
+     */
+    public final GeoPoint findClosestGeoIntersection(Ray ray, double maxDistance) {
+        BoundingBox box = getBoundingBox();
+        if (box != null && !box.intersects(ray, maxDistance))
+            return null;
+        return ray.isLimited() ? closest(findGeoIntersections(ray), ray, maxDistance)
+                : findClosestGeoIntersectionHelper(ray, maxDistance);
+    }
+
+    /**
+     * Helper method to find the intersection closest to the ray head, nearer than a given distance.
+     * The default implementation picks it from all the intersections, subclasses override it
+     * to avoid building the intersections list.
+     *
+     * @param ray         the ray for which to find the intersection
+     * @param maxDistance the distance from the ray head beyond which intersections are ignored
+     * @return the closest intersection nearer than maxDistance, or {@code null} if there is none
+     */
+    protected GeoPoint findClosestGeoIntersectionHelper(Ray ray, double maxDistance) {
+        return closest(findGeoIntersectionsHelper(ray), ray, maxDistance);
+    }
+
+    /**
+     * Picks the intersection closest to the ray head, nearer than a given distance
+     *
+     * @param points      the intersections of the ray, may be {@code null}
+     * @param ray         the ray
+     * @param maxDistance the distance from the ray head beyond which intersections are ignored
+     * @return the closest intersection nearer than maxDistance, or {@code null} if there is none
+     */
+    private static GeoPoint closest(List<GeoPoint> points, Ray ray, double maxDistance) {
+        if (points == null)
+            return null;
+        GeoPoint closest = null;
+        for (GeoPoint gp : points) {
+            double distance = gp.distanceAlong(ray);
+            if (distance < maxDistance) {
+                maxDistance = distance;
+                closest = gp;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Finds how much light passes through the geometry along a ray segment (occlusion query for shadow rays).
+     * The transparency coefficients (Kt) of all the intersections nearer than maxDistance are multiplied,
+     * and the query stops as soon as the product drops below minK, e.g. at the first opaque blocker.
+     * Rays that miss the bounding box of the geometry before that distance pass through untouched.
+     * Only the intersections in the interval of a limited ray are counted.
+     *
+     * @param ray         the ray from the shaded point towards the light
+     * @param maxDistance the distance from the ray head to the light source
+     * @param minK        the transparency below which the light is considered fully blocked
+     * @return the transparency along the segment, {@link Double3#ZERO} if the light is blocked
+     */
+    public final Double3 findTransparency(Ray ray, double maxDistance, double minK) {
+        BoundingBox box = getBoundingBox();
+        if (box != null && !box.intersects(ray, maxDistance))
+            return Double3.ONE;
+        return ray.isLimited() ? transparency(findGeoIntersections(ray), ray, maxDistance, minK)
+                : findTransparencyHelper(ray, maxDistance, minK);
+    }
+
+    /**
+     * Helper method to find the transparency of the geometry along a ray segment.
+     * The default implementation goes over all the intersections, subclasses override it
+     * to stop earlier.
+     *
+     * @param ray         the ray from the shaded point towards the light
+     * @param maxDistance the distance from the ray head to the light source
+     * @param minK        the transparency below which the light is considered fully blocked
+     * @return the transparency along the segment, {@link Double3#ZERO} if the light is blocked
+     */
+    protected Double3 findTransparencyHelper(Ray ray, double maxDistance, double minK) {
+        return transparency(findGeoIntersectionsHelper(ray), ray, maxDistance, minK);
+    }
+
+    /**
+     * Multiplies the transparency coefficients of the intersections nearer than a given distance
+     *
+     * @param points      the intersections of the ray, may be {@code null}
+     * @param ray         the ray
+     * @param maxDistance the distance from the ray head to the light source
+     * @param minK        the transparency below which the light is considered fully blocked
+     * @return the transparency along the segment, {@link Double3#ZERO} if the light is blocked
+     */
+    private static Double3 transparency(List<GeoPoint> points, Ray ray, double maxDistance, double minK) {
+        Double3 ktr = Double3.ONE;
+        if (points == null)
+            return ktr;
+        for (GeoPoint gp : points) {
+            if (gp.distanceAlong(ray) < maxDistance) {
+                ktr = ktr.product(gp.geometry.getMaterial().Kt);
+                if (ktr.lowerThan(minK))
+                    return Double3.ZERO;
+            }
+        }
+        return ktr;
+    }
+
+    /**
+     * Returns the axis aligned bounding box of the geometry.
+     * Geometries without a finite extent return {@code null}.
+     *
+     * @return the bounding box of the geometry, or {@code null} if it is unbounded
+     */
+    public BoundingBox getBoundingBox() {
+        return null;
+    }
+
+    /**
+     * Precomputes the terms of the intersections which depend only on the ray head,
+     * for the coming rays leaving a given point, e.g. the primary rays of a camera.
+     * The terms are used for the rays whose head is that very Point object, the rays
+     * leaving other points are intersected as usual. The default implementation has nothing
+     * to precompute.<br/>
+     * A geometry keeps the terms of one origin only: cameras rendering the same scene
+     * at the same time replace each other's terms, which costs the speedup but never
+     * the correctness of the intersections.
+     *
+     * @param origin the head shared by the coming rays
+     */
+    public void prepareOrigin(Point origin) {
     }
 
     public static class GeoPoint {
@@ -47,6 +218,21 @@ public abstract class Intersectable {
          * The intersection point in three-dimensional space.
          */
         public Point point;
+        /**
+         * The distance of the point from the head of the intersected ray,
+         * {@code NaN} if the geometry did not record it.
+         */
+        public double t = Double.NaN;
+        /**
+         * The surface coordinates of the point - the barycentric coordinates relative to the
+         * second and the third vertex for triangles - {@code NaN} if the geometry has none.
+         */
+        public double u = Double.NaN, v = Double.NaN;
+        /**
+         * The normal at the point, calculated on the first request
+         * or set by a geometry which knows it already
+         */
+        Vector normal;
 
         /**
          * Constructs a new GeoPoint object with the given geometry and point.
@@ -59,6 +245,56 @@ public abstract class Intersectable {
             this.point = point;
         }
 
+        /**
+         * Constructs a new GeoPoint object with the given geometry, point and ray distance.
+         *
+         * @param geometry The geometry object associated with the intersection point.
+         * @param point    The intersection point in three-dimensional space.
+         * @param t        The distance of the point from the ray head.
+         */
+        public GeoPoint(Geometry geometry, Point point, double t) {
+            this.geometry = geometry;
+            this.point = point;
+            this.t = t;
+        }
+
+        /**
+         * Constructs a new GeoPoint object with the given geometry, point, ray distance and surface coordinates.
+         *
+         * @param geometry The geometry object associated with the intersection point.
+         * @param point    The intersection point in three-dimensional space.
+         * @param t        The distance of the point from the ray head.
+         * @param u        The first surface coordinate of the point.
+         * @param v        The second surface coordinate of the point.
+         */
+        public GeoPoint(Geometry geometry, Point point, double t, double u, double v) {
+            this(geometry, point, t);
+            this.u = u;
+            this.v = v;
+        }
+
+        /**
+         * Returns the normal to the geometry at the point, calculating it once.
+         *
+         * @return the normal at the point
+         */
+        public Vector getNormal() {
+            if (normal == null)
+                normal = geometry.getNormal(point);
+            return normal;
+        }
+
+        /**
+         * Returns the distance of the point along a ray - the recorded distance if the point
+         * was found by intersecting that ray, otherwise the projection on the ray direction.
+         *
+         * @param ray the ray the point was found on
+         * @return the distance of the point from the ray head
+         */
+        public double distanceAlong(Ray ray) {
+            return Double.isNaN(t) ? ray.distanceAlong(point) : t;
+        }
+
         /**
          * Indicates whether some other object is "equal to" this GeoPoint.
          *
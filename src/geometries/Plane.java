@@ -16,6 +16,21 @@ import static primitives.Util.isZero;
 public class Plane extends Geometry {
     Point q0;
     Vector normal;
+    /**
+     * The distance term of the rays leaving the last prepared origin, see {@link #prepareOrigin(Point)}.
+     * The record is immutable and the field is volatile, so the rendering threads see a fully
+     * built term without locking. A single origin is kept per plane.
+     */
+    private volatile OriginTerm originTerm;
+
+    /**
+     * The term n * (q0 - P0) of the rays leaving a point
+     *
+     * @param origin the head of the rays
+     * @param term   the term, 0 if the origin is q0
+     */
+    private record OriginTerm(Point origin, double term) {
+    }
 
     /**
      * Constructs a new Plane object from three points on the plane.
@@ -61,6 +76,16 @@ public class Plane extends Geometry {
         return normal;
     }
 
+    /**
+     * A plane is infinite, so it has no bounding box
+     *
+     * @return {@code null}
+     */
+    @Override
+    public BoundingBox getBoundingBox() {
+        return null;
+    }
+
     @Override
     /*
      * Helper method to find the intersections between the given ray and the geometry.
@@ -71,34 +96,79 @@ public class Plane extends Geometry {
      *         or {@code null} if no intersections are found
      */
     public List<GeoPoint> findGeoIntersectionsHelper(Ray ray) {
+        double t = intersectionDistance(ray);
+        if (t <= 0)
+            return null;
+
+        List<GeoPoint> points = new ArrayList<>();
+        Point intersection_point = ray.getPoint(t);
+        points.add(new GeoPoint(this, intersection_point, t));
+        return points;
+    }
+
+    /**
+     * Helper method to find the intersection between the given ray and the plane,
+     * if it is nearer than the given distance.
+     *
+     * @param ray         the ray for which to find the intersection
+     * @param maxDistance the distance from the ray head beyond which intersections are ignored
+     * @return the intersection, or {@code null} if there is none nearer than maxDistance
+     */
+    @Override
+    protected GeoPoint findClosestGeoIntersectionHelper(Ray ray, double maxDistance) {
+        double t = intersectionDistance(ray);
+        return t > 0 && t < maxDistance ? new GeoPoint(this, ray.getPoint(t), t) : null;
+    }
+
+    /**
+     * Calculates the distance from the ray head to its intersection with the plane.
+     *
+     * @param ray the ray
+     * @return the distance, or 0 if the ray does not cross the plane in front of its head
+     */
+    double intersectionDistance(Ray ray) {
         Point P0 = ray.getP0();
         Vector v = ray.getDir();
         Vector n = normal;
 
-        // Check if the starting point of the ray is the same as the point of the plane
-        if (q0.equals(P0))
-            return null;
+        // n * (q0 - P0), shared by all the rays leaving the prepared origin
+        OriginTerm cached = originTerm;
+        double plane_Point = cached != null && cached.origin == P0 ? cached.term : originTerm(P0);
 
-        // Check if the ray is parallel to the plane
-        Vector q_p = q0.subtract(P0);
-        double plane_Point = alignZero(n.dotProdouct(q_p));
+        // Check if the ray head is on the plane
         if (isZero(plane_Point))
-            return null;
+            return 0;
 
         // Check if the denominator is zero
         double n_v = n.dotProdouct(v);
         if (isZero(n_v))
-            return null;
+            return 0;
 
         // Calculate the multiplier of the vector to find the intersection point
         double t = alignZero(plane_Point / n_v);
-        if (t <= 0)
-            return null;
+        return t > 0 ? t : 0;
+    }
 
-        List<GeoPoint> points = new ArrayList<>();
-        Point intersection_point = ray.getPoint(t);
-        points.add(new GeoPoint(this, intersection_point));
-        return points;
+    @Override
+    public void prepareOrigin(Point origin) {
+        originTerm = new OriginTerm(origin, originTerm(origin));
+    }
+
+    /**
+     * Calculates n * (q0 - P0) for the rays leaving a point
+     *
+     * @param P0 the head of the rays
+     * @return the term, 0 if the point is q0
+     */
+    private double originTerm(Point P0) {
+        // Check if the starting point of the ray is the same as the point of the plane
+        if (q0.equals(P0))
+            return 0;
+        // kept in coordinates to spare the vector allocation
+        Vector n = normal;
+        return alignZero((q0.getX() - P0.getX()) * n.getX()
+                + (q0.getY() - P0.getY()) * n.getY()
+                + (q0.getZ() - P0.getZ()) * n.getZ());
     }
 
-}
+}
\ No newline at end of file
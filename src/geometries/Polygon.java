@@ -23,7 +23,24 @@ public class Polygon extends Geometry {
      * Associated plane in which the polygon lays
      */
     protected final Plane plane;
+    /**
+     * The box bounding all the polygon vertices
+     */
+    private final BoundingBox box;
     private final int size;
+    /**
+     * The coordinate axis dropped when projecting the polygon onto a coordinate plane
+     * (the dominant axis of the normal), 0 for x, 1 for y and 2 for z
+     */
+    private final int droppedAxis;
+    /**
+     * Coefficients a, b, c of each edge line a*u + b*v + c = 0 in the projection plane,
+     * scaled so the expression is the distance from the line, positive inside the polygon.
+     * Calculated on the first inside test, so subclasses with their own intersection
+     * (a Triangle) never pay for them. Racing threads calculate the same lines,
+     * and the volatile field publishes them safely.
+     */
+    private volatile double[] edgeLines;
 
     /**
      * Polygon constructor based on vertices list. The list must be ordered by edge
@@ -57,34 +74,40 @@ public class Polygon extends Geometry {
         // polygon with this plane.
         // The plane holds the invariant normal (orthogonal unit) vector to the polygon
         plane = new Plane(vertices[0], vertices[1], vertices[2]);
-        if (size == 3) return; // no need for more tests for a Triangle
+        box = new BoundingBox(vertices);
 
         Vector n = plane.getNormal();
-        // Subtracting any subsequent points will throw an IllegalArgumentException
-        // because of Zero Vector if they are in the same point
-        Vector edge1 = vertices[vertices.length - 1].subtract(vertices[vertices.length - 2]);
-        Vector edge2 = vertices[0].subtract(vertices[vertices.length - 1]);
-
-        // Cross Product of any subsequent edges will throw an IllegalArgumentException
-        // because of Zero Vector if they connect three vertices that lay in the same
-        // line.
-        // Generate the direction of the polygon according to the angle between last and
-        // first edge being less than 180 deg. It is hold by the sign of its dot product
-        // with
-        // the normal. If all the rest consequent edges will generate the same sign -
-        // the
-        // polygon is convex ("kamur" in Hebrew).
-        boolean positive = edge1.crossProduct(edge2).dotProdouct(n) > 0;
-        for (var i = 1; i < vertices.length; ++i) {
-            // Test that the point is in the same plane as calculated originally
-            if (!isZero(vertices[i].subtract(vertices[0]).dotProdouct(n)))
-                throw new IllegalArgumentException("All vertices of a polygon must lay in the same plane");
-            // Test the consequent edges have
-            edge1 = edge2;
-            edge2 = vertices[i].subtract(vertices[i - 1]);
-            if (positive != (edge1.crossProduct(edge2).dotProdouct(n) > 0))
-                throw new IllegalArgumentException("All vertices must be ordered and the polygon must be convex");
+        // no need for more tests for a Triangle
+        if (size > 3) {
+            // Subtracting any subsequent points will throw an IllegalArgumentException
+            // because of Zero Vector if they are in the same point
+            Vector edge1 = vertices[vertices.length - 1].subtract(vertices[vertices.length - 2]);
+            Vector edge2 = vertices[0].subtract(vertices[vertices.length - 1]);
+
+            // Cross Product of any subsequent edges will throw an IllegalArgumentException
+            // because of Zero Vector if they connect three vertices that lay in the same
+            // line.
+            // Generate the direction of the polygon according to the angle between last and
+            // first edge being less than 180 deg. It is hold by the sign of its dot product
+            // with
+            // the normal. If all the rest consequent edges will generate the same sign -
+            // the
+            // polygon is convex ("kamur" in Hebrew).
+            boolean positive = edge1.crossProduct(edge2).dotProdouct(n) > 0;
+            for (var i = 1; i < vertices.length; ++i) {
+                // Test that the point is in the same plane as calculated originally
+                if (!isZero(vertices[i].subtract(vertices[0]).dotProdouct(n)))
+                    throw new IllegalArgumentException("All vertices of a polygon must lay in the same plane");
+                // Test the consequent edges have
+                edge1 = edge2;
+                edge2 = vertices[i].subtract(vertices[i - 1]);
+                if (positive != (edge1.crossProduct(edge2).dotProdouct(n) > 0))
+                    throw new IllegalArgumentException("All vertices must be ordered and the polygon must be convex");
+            }
         }
+
+        double nx = Math.abs(n.getX()), ny = Math.abs(n.getY()), nz = Math.abs(n.getZ());
+        droppedAxis = nx >= ny && nx >= nz ? 0 : ny >= nz ? 1 : 2;
     }
 
     /**
@@ -98,49 +121,144 @@ public class Polygon extends Geometry {
         return plane.getNormal();
     }
 
-    /*
-     * Helper method to find the intersections between the given ray and the triangle geometry.
-     * The method first checks if there is an intersection with the plane of the triangle,
-     * and then performs additional calculations to determine if the intersection point lies within the triangle.
+    @Override
+    public void prepareOrigin(Point origin) {
+        plane.prepareOrigin(origin);
+    }
+
+    /**
+     * Returns the box bounding all the polygon vertices.
+     *
+     * @return the bounding box of the polygon
+     */
+    @Override
+    public BoundingBox getBoundingBox() {
+        return box;
+    }
+
+    /**
+     * Helper method to find the intersections between the given ray and the polygon.
+     * The ray is intersected with the plane of the polygon, and the intersection point
+     * is checked against the precomputed edge lines.
      *
      * @param ray the ray for which to find the intersections
-     * @return a list of GeoPoints representing the intersections between the ray and the triangle geometry,
+     * @return a list of GeoPoints representing the intersections between the ray and the polygon,
      *         or {@code null} if no intersections are found
      */
     @Override
     public List<GeoPoint> findGeoIntersectionsHelper(Ray ray) {
-
-        List<GeoPoint> planeIntersections = plane.findGeoIntersections(ray);
-
-        if (planeIntersections == null || !isRayOnPolygon(ray)) return null;
+        double t = plane.intersectionDistance(ray);
+        if (t <= 0 || !isInside(ray, t)) return null;
 
         var result = new LinkedList<GeoPoint>();
-        result.add(new GeoPoint(this, planeIntersections.get(0).point));
-
+        result.add(new GeoPoint(this, ray.getPoint(t), t));
         return result;
     }
+
+    /**
+     * Helper method to find the intersection between the given ray and the polygon,
+     * if it is nearer than the given distance.
+     *
+     * @param ray         the ray for which to find the intersection
+     * @param maxDistance the distance from the ray head beyond which intersections are ignored
+     * @return the intersection, or {@code null} if there is none nearer than maxDistance
+     */
+    @Override
+    protected GeoPoint findClosestGeoIntersectionHelper(Ray ray, double maxDistance) {
+        double t = plane.intersectionDistance(ray);
+        if (t <= 0 || t >= maxDistance || !isInside(ray, t)) return null;
+        return new GeoPoint(this, ray.getPoint(t), t);
+    }
+
     /**
      * @param ray The ray to check if the intersection is on polygon.
      * @return <b>True</b> if on polygon, <b>false</b> otherwise.
      */
     public boolean isRayOnPolygon(Ray ray) {
-        Vector v1, v2;
-        v1 = vertices.get(0).subtract(ray.getP0());
-        v2 = vertices.get(1).subtract(ray.getP0());
-
-        double prevN = ray.getDir().dotProdouct((v1.crossProduct(v2)).normalize());
-        double curN;
-        if (alignZero(prevN) == 0) return false;
-
-        for (int i = 1; i < vertices.size(); i++) {
-            v1 = v2;
-            v2 = vertices.get((i + 1) % vertices.size()).subtract(ray.getP0());
-            curN = ray.getDir().dotProdouct((v1.crossProduct(v2)).normalize());
-            if (alignZero(curN) == 0 || alignZero(curN * prevN) < 0)
-                return false;
-            prevN = curN;
+        double t = plane.intersectionDistance(ray);
+        return t > 0 && isInside(ray, t);
+    }
+
+    /**
+     * Checks whether a point of the ray in the polygon plane is inside the polygon,
+     * excluding its edges and vertices
+     *
+     * @param ray the ray
+     * @param t   the distance of the point from the ray head
+     * @return true if the point is inside the polygon, false otherwise
+     */
+    private boolean isInside(Ray ray, double t) {
+        Point p0 = ray.getP0();
+        Vector dir = ray.getDir();
+        double u, v;
+        switch (droppedAxis) {
+            case 0 -> {
+                u = p0.getY() + t * dir.getY();
+                v = p0.getZ() + t * dir.getZ();
+            }
+            case 1 -> {
+                u = p0.getZ() + t * dir.getZ();
+                v = p0.getX() + t * dir.getX();
+            }
+            default -> {
+                u = p0.getX() + t * dir.getX();
+                v = p0.getY() + t * dir.getY();
+            }
         }
+        double[] lines = edgeLines;
+        if (lines == null)
+            edgeLines = lines = edgeLines();
+        for (int i = 0; i < lines.length; i += 3)
+            if (alignZero(lines[i] * u + lines[i + 1] * v + lines[i + 2]) <= 0)
+                return false;
         return true;
     }
 
+    /**
+     * Calculates the edge lines of the polygon projected onto the coordinate plane
+     * orthogonal to the dropped axis
+     *
+     * @return the coefficients a, b, c of each edge line in turn
+     */
+    private double[] edgeLines() {
+        double[] us = new double[size];
+        double[] vs = new double[size];
+        for (int i = 0; i < size; ++i) {
+            Point p = vertices.get(i);
+            switch (droppedAxis) {
+                case 0 -> {
+                    us[i] = p.getY();
+                    vs[i] = p.getZ();
+                }
+                case 1 -> {
+                    us[i] = p.getZ();
+                    vs[i] = p.getX();
+                }
+                default -> {
+                    us[i] = p.getX();
+                    vs[i] = p.getY();
+                }
+            }
+        }
+        // twice the signed area of the projected polygon gives its orientation
+        double area = 0;
+        for (int i = 0; i < size; ++i) {
+            int j = (i + 1) % size;
+            area += us[i] * vs[j] - us[j] * vs[i];
+        }
+        double orientation = area > 0 ? 1 : -1;
+
+        double[] lines = new double[3 * size];
+        for (int i = 0; i < size; ++i) {
+            int j = (i + 1) % size;
+            double a = vs[i] - vs[j];
+            double b = us[j] - us[i];
+            double scale = orientation / Math.sqrt(a * a + b * b);
+            lines[3 * i] = a * scale;
+            lines[3 * i + 1] = b * scale;
+            lines[3 * i + 2] = -(a * us[i] + b * vs[i]) * scale;
+        }
+        return lines;
+    }
+
 }
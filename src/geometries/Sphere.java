@@ -15,6 +15,24 @@ import static primitives.Util.alignZero;
 public class Sphere extends RadialGeometry {
    // private final Point center;
    Point center;
+    /**
+     * The box bounding the sphere
+     */
+    private final BoundingBox box;
+    /**
+     * The center terms of the rays leaving the last prepared origin, see {@link #prepareOrigin(Point)}.
+     * The record is immutable and the field is volatile, so the rendering threads see fully
+     * built terms without locking. A single origin is kept per sphere.
+     */
+    private volatile OriginTerms originTerms;
+
+    /**
+     * The vector u = center - P0 and its squared length |u|<sup>2</sup> for the rays leaving a point
+     *
+     * @param origin the head of the rays, not the center
+     */
+    private record OriginTerms(Point origin, double ux, double uy, double uz, double uu) {
+    }
 
     /**
      * Constructs a new Sphere object with the specified radius.
@@ -23,6 +41,9 @@ public class Sphere extends RadialGeometry {
     public Sphere(Point p, double r) {
         super(r);
         center = p;
+        box = new BoundingBox(
+                center.getX() - radius, center.getY() - radius, center.getZ() - radius,
+                center.getX() + radius, center.getY() + radius, center.getZ() + radius);
     }
 
     /**
@@ -38,6 +59,16 @@ public class Sphere extends RadialGeometry {
         return v.normalize();
     }
 
+    /**
+     * Returns the box bounding the sphere, the cube of edge 2r around its center.
+     *
+     * @return the bounding box of the sphere
+     */
+    @Override
+    public BoundingBox getBoundingBox() {
+        return box;
+    }
+
 
     /**
      * Finds the intersection points between this sphere and a given ray.
@@ -48,16 +79,32 @@ public class Sphere extends RadialGeometry {
      */
     @Override
     public List<GeoPoint> findGeoIntersectionsHelper(Ray ray) {
-        if (ray.getP0().equals(center)) {
-            List<GeoPoint> points = new ArrayList<>(1);
-            Point p = center.add(ray.getDir().scale(radius));
-            points.add(new GeoPoint(this, p));
-            return points;
+        Point p0 = ray.getP0();
+        // the center terms are read from the prepared origin or calculated in place
+        double ux, uy, uz, uu;
+        OriginTerms terms = originTerms;
+        if (terms != null && terms.origin == p0) {
+            ux = terms.ux;
+            uy = terms.uy;
+            uz = terms.uz;
+            uu = terms.uu;
+        } else {
+            if (p0.equals(center)) {
+                List<GeoPoint> points = new ArrayList<>(1);
+                Point p = center.add(ray.getDir().scale(radius));
+                points.add(new GeoPoint(this, p, radius));
+                return points;
+            }
+            // u = center - P0, kept in coordinates to spare the vector allocations
+            ux = center.getX() - p0.getX();
+            uy = center.getY() - p0.getY();
+            uz = center.getZ() - p0.getZ();
+            uu = ux * ux + uy * uy + uz * uz;
         }
 
-        Vector u = center.subtract(ray.getP0());
-        double Tm = ray.getDir().dotProdouct(u);
-        double d = Math.sqrt(u.lengthSquared()-Tm*Tm);
+        Vector dir = ray.getDir();
+        double Tm = ux * dir.getX() + uy * dir.getY() + uz * dir.getZ();
+        double d = Math.sqrt(Math.max(0, uu - Tm * Tm));
         if (d >= radius)
             return null;
         double Th = Math.sqrt(radius*radius-d*d);
@@ -73,12 +120,67 @@ public class Sphere extends RadialGeometry {
         List<GeoPoint> points = new ArrayList<>(size);
         if (t1 > 0) {
             Point p = ray.getPoint(t1);
-            points.add(new GeoPoint(this, p));
+            points.add(new GeoPoint(this, p, t1));
         }
         if (t2 > 0) {
             Point p = ray.getPoint(t2);
-            points.add(new GeoPoint(this, p));
+            points.add(new GeoPoint(this, p, t2));
         }
         return points;
     }
+
+    /**
+     * Finds the intersection point of the ray with this sphere closest to the ray head,
+     * skipping intersections beyond the given distance.
+     *
+     * @param ray         the ray to intersect with this sphere
+     * @param maxDistance the distance from the ray head beyond which intersections are ignored
+     * @return the closest intersection nearer than maxDistance, or null if there is none
+     */
+    @Override
+    protected GeoPoint findClosestGeoIntersectionHelper(Ray ray, double maxDistance) {
+        Point p0 = ray.getP0();
+        double ux, uy, uz, uu;
+        OriginTerms terms = originTerms;
+        if (terms != null && terms.origin == p0) {
+            ux = terms.ux;
+            uy = terms.uy;
+            uz = terms.uz;
+            uu = terms.uu;
+        } else {
+            if (p0.equals(center))
+                return radius < maxDistance ? new GeoPoint(this, ray.getPoint(radius), radius) : null;
+            // u = center - P0, kept in coordinates to spare the vector allocations
+            ux = center.getX() - p0.getX();
+            uy = center.getY() - p0.getY();
+            uz = center.getZ() - p0.getZ();
+            uu = ux * ux + uy * uy + uz * uz;
+        }
+
+        Vector dir = ray.getDir();
+        double Tm = ux * dir.getX() + uy * dir.getY() + uz * dir.getZ();
+        double d = Math.sqrt(Math.max(0, uu - Tm * Tm));
+        if (d >= radius)
+            return null;
+        double Th = Math.sqrt(radius * radius - d * d);
+        // the nearer intersection is Tm - Th, if it is in front of the ray head
+        double t = alignZero(Tm - Th);
+        if (t <= 0)
+            t = alignZero(Tm + Th);
+        if (t <= 0 || t >= maxDistance)
+            return null;
+        return new GeoPoint(this, ray.getPoint(t), t);
+    }
+
+    @Override
+    public void prepareOrigin(Point origin) {
+        if (origin.equals(center)) {
+            originTerms = null;
+            return;
+        }
+        double ux = center.getX() - origin.getX();
+        double uy = center.getY() - origin.getY();
+        double uz = center.getZ() - origin.getZ();
+        originTerms = new OriginTerms(origin, ux, uy, uz, ux * ux + uy * uy + uz * uz);
+    }
 }
@@ -5,12 +5,24 @@ import primitives.Ray;
 import primitives.Vector;
 import java.util.List;
 
+import static primitives.Util.alignZero;
+import static primitives.Util.isZero;
+
 
 /**
  * A class representing a triangle in a 3D space.
  */
 public class Triangle extends Polygon {
-
+    /**
+     * The first vertex and the edges from it to the other two vertices,
+     * kept as plain coordinates for the intersection calculation
+     */
+    private final double v0x, v0y, v0z, e1x, e1y, e1z, e2x, e2y, e2z;
+    /**
+     * The inverse length of e1 x e2, scaling the determinant of the intersection calculation
+     * to the cosine between the ray and the triangle plane
+     */
+    private final double invNormalLength;
 
     /**
      * Triangle constructor based on vertices list. The list must be ordered by edge
@@ -35,6 +47,17 @@ public class Triangle extends Polygon {
 
     public Triangle(Point p0, Point p1, Point p2) {
         super(p0, p1, p2);
+        v0x = p0.getX();
+        v0y = p0.getY();
+        v0z = p0.getZ();
+        e1x = p1.getX() - v0x;
+        e1y = p1.getY() - v0y;
+        e1z = p1.getZ() - v0z;
+        e2x = p2.getX() - v0x;
+        e2y = p2.getY() - v0y;
+        e2z = p2.getZ() - v0z;
+        double nx = e1y * e2z - e1z * e2y, ny = e1z * e2x - e1x * e2z, nz = e1x * e2y - e1y * e2x;
+        invNormalLength = 1 / Math.sqrt(nx * nx + ny * ny + nz * nz);
     }
 
     /**
@@ -51,8 +74,6 @@ public class Triangle extends Polygon {
 
     /**
      * Helper method to find the intersections between the given ray and the triangle geometry.
-     * The method first checks if there is an intersection with the plane of the triangle,
-     * and then performs additional calculations to determine if the intersection point lies within the triangle.
      *
      * @param ray the ray for which to find the intersections
      * @return a list of GeoPoints representing the intersections between the ray and the triangle geometry,
@@ -60,35 +81,70 @@ public class Triangle extends Polygon {
      */
     @Override
     public List<GeoPoint> findGeoIntersectionsHelper(Ray ray) {
-        List<GeoPoint> plane_intersection = plane.findGeoIntersectionsHelper(ray);
-        if (plane_intersection == null)
-            return null;
-
-        Vector v = ray.getDir();
-        Point p0 = ray.getP0();
-
-        Point point1 = vertices.get(0);
-        Point point2 = vertices.get(1);
-        Point point3 = vertices.get(2);
-
-        Vector v1 = point1.subtract(p0);
-        Vector v2 = point2.subtract(p0);
-        Vector v3 = point3.subtract(p0);
+        GeoPoint gp = intersection(ray, Double.POSITIVE_INFINITY);
+        return gp == null ? null : List.of(gp);
+    }
 
-        Vector n1 = v1.crossProduct(v2);
-        Vector n2 = v2.crossProduct(v3);
-        Vector n3 = v3.crossProduct(v1);
+    /**
+     * Helper method to find the intersection between the given ray and the triangle,
+     * if it is nearer than the given distance.
+     *
+     * @param ray         the ray for which to find the intersection
+     * @param maxDistance the distance from the ray head beyond which intersections are ignored
+     * @return the intersection, or {@code null} if there is none nearer than maxDistance
+     */
+    @Override
+    protected GeoPoint findClosestGeoIntersectionHelper(Ray ray, double maxDistance) {
+        return intersection(ray, maxDistance);
+    }
 
-        double f1 = v.dotProdouct(n1);
-        double f2 = v.dotProdouct(n2);
-        double f3 = v.dotProdouct(n3);
+    /**
+     * The Möller–Trumbore intersection of a triangle does not use the plane terms,
+     * so there is nothing to precompute.
+     *
+     * @param origin the head shared by the coming rays
+     */
+    @Override
+    public void prepareOrigin(Point origin) {
+    }
 
-        if ((f1 > 0 && f2 > 0 && f3 > 0) || (f1 < 0 && f2 < 0 && f3 < 0)) {
-            Point p = plane_intersection.get(0).point;
-            return List.of(new GeoPoint(this, p));
-        }
+    @Override
+    public boolean isRayOnPolygon(Ray ray) {
+        return intersection(ray, Double.POSITIVE_INFINITY) != null;
+    }
 
-        return null;
+    /**
+     * Intersects the ray with the triangle (Möller–Trumbore), excluding the triangle edges
+     * and vertices. The intersection is built only when the ray crosses the triangle,
+     * with the barycentric coordinates of the point relative to the second and the third vertices.
+     *
+     * @param ray         the ray
+     * @param maxDistance the distance from the ray head beyond which the intersection is ignored
+     * @return the intersection, or {@code null} if the ray does not cross the triangle inside
+     * in front of its head and nearer than maxDistance
+     */
+    GeoPoint intersection(Ray ray, double maxDistance) {
+        Point p0 = ray.getP0();
+        Vector dir = ray.getDir();
+        double dx = dir.getX(), dy = dir.getY(), dz = dir.getZ();
+        // p = dir x e2
+        double px = dy * e2z - dz * e2y, py = dz * e2x - dx * e2z, pz = dx * e2y - dy * e2x;
+        double det = e1x * px + e1y * py + e1z * pz;
+        // det = -n * dir |e1 x e2|, the ray is parallel to the triangle plane when n * dir is 0
+        if (isZero(det * invNormalLength)) return null;
+
+        double inv = 1 / det;
+        double sx = p0.getX() - v0x, sy = p0.getY() - v0y, sz = p0.getZ() - v0z;
+        double u = (sx * px + sy * py + sz * pz) * inv;
+        if (u <= 0 || u >= 1) return null;
+        // q = s x e1
+        double qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+        double v = (dx * qx + dy * qy + dz * qz) * inv;
+        if (v <= 0 || u + v >= 1) return null;
+
+        double t = alignZero((e2x * qx + e2y * qy + e2z * qz) * inv);
+        if (t <= 0 || t >= maxDistance) return null;
+        return new GeoPoint(this, ray.getPoint(t), t, u, v);
     }
 
 }
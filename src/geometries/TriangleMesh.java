@@ -0,0 +1,451 @@
+package geometries;
+
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static primitives.Util.alignZero;
+import static primitives.Util.isZero;
+
+/**
+ * A mesh of triangles sharing their vertices, stored in primitive arrays.
+ * The vertices are a flat array of coordinates, and every three indices into it
+ * make a face. Rays are intersected with the faces by the M&ouml;ller&ndash;Trumbore
+ * algorithm, through an internal bounding volume hierarchy over the faces.<br/>
+ * Unlike a {@link Triangle}, a face includes its edges and vertices, so a ray
+ * crossing a shared edge never slips between two neighbouring faces.
+ */
+public class TriangleMesh extends Geometry {
+    /**
+     * Maximum number of faces in a leaf of the hierarchy
+     */
+    private static final int LEAF_SIZE = 4;
+    /**
+     * Tolerance of the determinant and of the point on face test
+     */
+    private static final double EPSILON = 1e-10;
+
+    /**
+     * Vertex coordinates, x y z of each vertex in turn
+     */
+    private final double[] vertices;
+    /**
+     * Vertex indices, three per face
+     */
+    private final int[] indices;
+
+    /**
+     * Box bounds of the hierarchy nodes, min x y z and max x y z of each node in turn
+     */
+    private final double[] nodeBounds;
+    /**
+     * For a leaf, the position of its first face in faceOrder; for an inner node, the index of its second child
+     * (the first child always follows its parent)
+     */
+    private final int[] nodeStart;
+    /**
+     * Amount of faces in a leaf, 0 for an inner node
+     */
+    private final int[] nodeCount;
+    /**
+     * Split axis of an inner node, its first child holds the faces on the lower side
+     */
+    private final byte[] nodeAxis;
+    /**
+     * The face indices, ordered so each leaf holds a contiguous range
+     */
+    private final int[] faceOrder;
+    /**
+     * Amount of nodes in the hierarchy
+     */
+    private int nodes = 0;
+    /**
+     * Depth of the hierarchy, bounds the traversal stack
+     */
+    private int depth = 0;
+    private final BoundingBox box;
+
+    /**
+     * Constructs a mesh from vertex and index buffers. The arrays are kept, not copied,
+     * and must not be changed afterwards.
+     *
+     * @param vertices the vertex coordinates, x y z of each vertex in turn
+     * @param indices  the vertex indices, three per face, in counter-clockwise order seen from the normal side
+     * @throws IllegalArgumentException if the buffer lengths are not multiples of 3, there are no faces,
+     *                                  or an index is out of the vertex buffer
+     */
+    public TriangleMesh(double[] vertices, int[] indices) {
+        if (vertices.length % 3 != 0 || indices.length % 3 != 0)
+            throw new IllegalArgumentException("Mesh buffers must hold triples");
+        if (indices.length == 0)
+            throw new IllegalArgumentException("Mesh must have at least one face");
+        int vertexCount = vertices.length / 3;
+        for (int index : indices)
+            if (index < 0 || index >= vertexCount)
+                throw new IllegalArgumentException("Mesh index out of the vertex buffer: " + index);
+        this.vertices = vertices;
+        this.indices = indices;
+
+        int faces = indices.length / 3;
+        faceOrder = new int[faces];
+        for (int f = 0; f < faces; ++f) faceOrder[f] = f;
+        int maxNodes = 2 * faces;
+        nodeBounds = new double[6 * maxNodes];
+        nodeStart = new int[maxNodes];
+        nodeCount = new int[maxNodes];
+        nodeAxis = new byte[maxNodes];
+
+        double[] centers = new double[3 * faces];
+        for (int f = 0; f < faces; ++f)
+            for (int axis = 0; axis < 3; ++axis)
+                centers[3 * f + axis] = (coordinate(f, 0, axis) + coordinate(f, 1, axis) + coordinate(f, 2, axis)) / 3;
+        build(centers, 0, faces, 1);
+
+        box = new BoundingBox(nodeBounds[0], nodeBounds[1], nodeBounds[2],
+                nodeBounds[3], nodeBounds[4], nodeBounds[5]);
+    }
+
+    /**
+     * @return the amount of faces in the mesh
+     */
+    public int getFaceCount() {
+        return indices.length / 3;
+    }
+
+    /**
+     * @return the amount of vertices in the mesh
+     */
+    public int getVertexCount() {
+        return vertices.length / 3;
+    }
+
+    /**
+     * Returns a coordinate of a face vertex
+     *
+     * @param face   the face index
+     * @param corner the vertex of the face, 0 to 2
+     * @param axis   the coordinate axis, 0 to 2
+     * @return the coordinate
+     */
+    private double coordinate(int face, int corner, int axis) {
+        return vertices[3 * indices[3 * face + corner] + axis];
+    }
+
+    /**
+     * Builds a sub-tree over a range of faceOrder, splitting it at the middle of the
+     * longest extent of the face centers, or at the median if all centers fall on one side.
+     *
+     * @param centers the face centers
+     * @param from    first position of the range (inclusive)
+     * @param to      last position of the range (exclusive)
+     * @param level   depth of the new node
+     */
+    private void build(double[] centers, int from, int to, int level) {
+        int node = nodes++;
+        depth = Math.max(depth, level);
+        double[] cMin = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY};
+        double[] cMax = {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        int b = 6 * node;
+        for (int axis = 0; axis < 3; ++axis) {
+            nodeBounds[b + axis] = Double.POSITIVE_INFINITY;
+            nodeBounds[b + 3 + axis] = Double.NEGATIVE_INFINITY;
+        }
+        for (int i = from; i < to; ++i) {
+            int face = faceOrder[i];
+            for (int axis = 0; axis < 3; ++axis) {
+                for (int corner = 0; corner < 3; ++corner) {
+                    double c = coordinate(face, corner, axis);
+                    if (c < nodeBounds[b + axis]) nodeBounds[b + axis] = c;
+                    if (c > nodeBounds[b + 3 + axis]) nodeBounds[b + 3 + axis] = c;
+                }
+                double center = centers[3 * face + axis];
+                cMin[axis] = Math.min(cMin[axis], center);
+                cMax[axis] = Math.max(cMax[axis], center);
+            }
+        }
+
+        int count = to - from;
+        int axis = 0;
+        for (int a = 1; a < 3; ++a)
+            if (cMax[a] - cMin[a] > cMax[axis] - cMin[axis]) axis = a;
+        if (count <= LEAF_SIZE || cMax[axis] <= cMin[axis]) {
+            nodeStart[node] = from;
+            nodeCount[node] = count;
+            return;
+        }
+
+        double split = (cMin[axis] + cMax[axis]) / 2;
+        int mid = from;
+        for (int i = from; i < to; ++i) {
+            if (centers[3 * faceOrder[i] + axis] < split) {
+                int tmp = faceOrder[i];
+                faceOrder[i] = faceOrder[mid];
+                faceOrder[mid++] = tmp;
+            }
+        }
+        if (mid == from || mid == to) {
+            mid = (from + to) / 2;
+            selectByCenter(centers, axis, from, to, mid);
+        }
+
+        nodeAxis[node] = (byte) axis;
+        build(centers, from, mid, level + 1);
+        nodeStart[node] = nodes;
+        build(centers, mid, to, level + 1);
+    }
+
+    /**
+     * Reorders a range of faceOrder so the face at position k has the k-th smallest center
+     * on the axis, with smaller centers before it and larger ones after it (quickselect).
+     */
+    private void selectByCenter(double[] centers, int axis, int from, int to, int k) {
+        int lo = from, hi = to - 1;
+        while (lo < hi) {
+            double pivot = centers[3 * faceOrder[(lo + hi) >>> 1] + axis];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (centers[3 * faceOrder[i] + axis] < pivot) ++i;
+                while (centers[3 * faceOrder[j] + axis] > pivot) --j;
+                if (i <= j) {
+                    int tmp = faceOrder[i];
+                    faceOrder[i++] = faceOrder[j];
+                    faceOrder[j--] = tmp;
+                }
+            }
+            if (k <= j) hi = j;
+            else if (k >= i) lo = i;
+            else return;
+        }
+    }
+
+    @Override
+    public BoundingBox getBoundingBox() {
+        return box;
+    }
+
+    /**
+     * Returns the normal of the face the point lies on, by the face vertices order.
+     * The face is looked up through the hierarchy, taking the face whose plane is nearest to the point.
+     *
+     * @param point a point on the mesh
+     * @return the normalized face normal
+     * @throws IllegalArgumentException if the point is not on the mesh
+     */
+    @Override
+    public Vector getNormal(Point point) {
+        double px = point.getX(), py = point.getY(), pz = point.getZ();
+        int best = -1;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        int[] stack = new int[depth + 1];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            int b = 6 * node;
+            double tolerance = 1e-7 * (1 + Math.abs(px) + Math.abs(py) + Math.abs(pz));
+            if (px < nodeBounds[b] - tolerance || px > nodeBounds[b + 3] + tolerance
+                    || py < nodeBounds[b + 1] - tolerance || py > nodeBounds[b + 4] + tolerance
+                    || pz < nodeBounds[b + 2] - tolerance || pz > nodeBounds[b + 5] + tolerance)
+                continue;
+            if (nodeCount[node] == 0) {
+                stack[top++] = node + 1;
+                stack[top++] = nodeStart[node];
+                continue;
+            }
+            for (int i = nodeStart[node], end = i + nodeCount[node]; i < end; ++i) {
+                int face = faceOrder[i];
+                double distance = pointFaceDistance(face, px, py, pz);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = face;
+                }
+            }
+        }
+        if (best < 0)
+            throw new IllegalArgumentException("The point is not on the mesh");
+        return faceNormal(best);
+    }
+
+    /**
+     * Calculates the distance of a point from a face plane, if the point projects inside the face
+     *
+     * @return the distance from the face plane, or infinity if the point is out of the face
+     */
+    private double pointFaceDistance(int face, double px, double py, double pz) {
+        int i0 = 3 * indices[3 * face], i1 = 3 * indices[3 * face + 1], i2 = 3 * indices[3 * face + 2];
+        double e1x = vertices[i1] - vertices[i0], e1y = vertices[i1 + 1] - vertices[i0 + 1], e1z = vertices[i1 + 2] - vertices[i0 + 2];
+        double e2x = vertices[i2] - vertices[i0], e2y = vertices[i2 + 1] - vertices[i0 + 1], e2z = vertices[i2 + 2] - vertices[i0 + 2];
+        double wx = px - vertices[i0], wy = py - vertices[i0 + 1], wz = pz - vertices[i0 + 2];
+        // barycentric coordinates of the projection, from the Gram matrix of the edges
+        double d11 = e1x * e1x + e1y * e1y + e1z * e1z;
+        double d12 = e1x * e2x + e1y * e2y + e1z * e2z;
+        double d22 = e2x * e2x + e2y * e2y + e2z * e2z;
+        double w1 = wx * e1x + wy * e1y + wz * e1z;
+        double w2 = wx * e2x + wy * e2y + wz * e2z;
+        double det = d11 * d22 - d12 * d12;
+        if (det <= EPSILON * d11 * d22) return Double.POSITIVE_INFINITY;
+        double u = (d22 * w1 - d12 * w2) / det;
+        double v = (d11 * w2 - d12 * w1) / det;
+        double tolerance = 1e-7;
+        if (u < -tolerance || v < -tolerance || u + v > 1 + tolerance) return Double.POSITIVE_INFINITY;
+        double nx = e1y * e2z - e1z * e2y, ny = e1z * e2x - e1x * e2z, nz = e1x * e2y - e1y * e2x;
+        return Math.abs(wx * nx + wy * ny + wz * nz) / Math.sqrt(nx * nx + ny * ny + nz * nz);
+    }
+
+    /**
+     * Calculates the normal of a face
+     *
+     * @param face the face index
+     * @return the normalized face normal
+     */
+    private Vector faceNormal(int face) {
+        int i0 = 3 * indices[3 * face], i1 = 3 * indices[3 * face + 1], i2 = 3 * indices[3 * face + 2];
+        Vector e1 = new Vector(vertices[i1] - vertices[i0], vertices[i1 + 1] - vertices[i0 + 1], vertices[i1 + 2] - vertices[i0 + 2]);
+        Vector e2 = new Vector(vertices[i2] - vertices[i0], vertices[i2 + 1] - vertices[i0 + 1], vertices[i2 + 2] - vertices[i0 + 2]);
+        return e1.crossProduct(e2).normalize();
+    }
+
+    /**
+     * Intersects the ray with a face by the M&ouml;ller&ndash;Trumbore algorithm
+     *
+     * @return the distance of the intersection along the ray, or 0 if the ray misses the face
+     * or the face is behind the ray head
+     */
+    private double intersectFace(int face, double ox, double oy, double oz, double dx, double dy, double dz) {
+        int i0 = 3 * indices[3 * face], i1 = 3 * indices[3 * face + 1], i2 = 3 * indices[3 * face + 2];
+        double v0x = vertices[i0], v0y = vertices[i0 + 1], v0z = vertices[i0 + 2];
+        double e1x = vertices[i1] - v0x, e1y = vertices[i1 + 1] - v0y, e1z = vertices[i1 + 2] - v0z;
+        double e2x = vertices[i2] - v0x, e2y = vertices[i2 + 1] - v0y, e2z = vertices[i2 + 2] - v0z;
+        // p = dir x e2
+        double px = dy * e2z - dz * e2y, py = dz * e2x - dx * e2z, pz = dx * e2y - dy * e2x;
+        double det = e1x * px + e1y * py + e1z * pz;
+        // det = -n * dir |e1 x e2|, the ray is parallel to the face when n * dir is 0,
+        // compared squared to spare the square root of |e1 x e2|
+        double nx = e1y * e2z - e1z * e2y, ny = e1z * e2x - e1x * e2z, nz = e1x * e2y - e1y * e2x;
+        if (det * det < EPSILON * EPSILON * (nx * nx + ny * ny + nz * nz)) return 0;
+        double inv = 1 / det;
+        double sx = ox - v0x, sy = oy - v0y, sz = oz - v0z;
+        double u = (sx * px + sy * py + sz * pz) * inv;
+        if (u < 0 || u > 1) return 0;
+        // q = s x e1
+        double qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+        double v = (dx * qx + dy * qy + dz * qz) * inv;
+        if (v < 0 || u + v > 1) return 0;
+        double t = alignZero((e2x * qx + e2y * qy + e2z * qz) * inv);
+        return t > 0 ? t : 0;
+    }
+
+    /**
+     * Checks whether a ray enters a node box within its interval and before a given distance (slab test).
+     * The near and the far bound of each slab are picked by the ray direction signs.
+     */
+    private boolean hitsNode(int node, Ray ray, double ox, double oy, double oz, double maxDistance) {
+        int b = 6 * node;
+        int signs = ray.getSigns();
+        int x = (signs & Ray.NEGATIVE_X) != 0 ? 3 : 0;
+        int y = (signs & Ray.NEGATIVE_Y) != 0 ? 3 : 0;
+        int z = (signs & Ray.NEGATIVE_Z) != 0 ? 3 : 0;
+        double ix = ray.getInvDirX(), iy = ray.getInvDirY(), iz = ray.getInvDirZ();
+        double near = Math.max(ray.getTMin(), (nodeBounds[b + x] - ox) * ix);
+        double far = Math.min(maxDistance, (nodeBounds[b + 3 - x] - ox) * ix);
+        near = Math.max(near, (nodeBounds[b + 1 + y] - oy) * iy);
+        far = Math.min(far, (nodeBounds[b + 4 - y] - oy) * iy);
+        near = Math.max(near, (nodeBounds[b + 2 + z] - oz) * iz);
+        far = Math.min(far, (nodeBounds[b + 5 - z] - oz) * iz);
+        // Math.max and Math.min propagate NaN, which only happens for a ray in a slab face plane
+        return !(near > far);
+    }
+
+    /**
+     * Checks whether a hit at a given distance is already listed. Hits of distinct faces at the
+     * same distance are the same point, on an edge or a vertex the faces share.
+     *
+     * @param hits     the hits found so far, or null
+     * @param distance the distance of the new hit
+     * @return true if a listed hit is at the same distance
+     */
+    private static boolean hasDistance(List<GeoPoint> hits, double distance) {
+        if (hits == null) return false;
+        for (GeoPoint hit : hits)
+            if (isZero(hit.t - distance)) return true;
+        return false;
+    }
+
+    @Override
+    protected List<GeoPoint> findGeoIntersectionsHelper(Ray ray) {
+        Point p0 = ray.getP0();
+        Vector dir = ray.getDir();
+        double ox = p0.getX(), oy = p0.getY(), oz = p0.getZ();
+        double dx = dir.getX(), dy = dir.getY(), dz = dir.getZ();
+        double maxDistance = ray.getTMax();
+
+        List<GeoPoint> result = null;
+        int[] stack = new int[depth + 1];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (!hitsNode(node, ray, ox, oy, oz, maxDistance)) continue;
+            if (nodeCount[node] == 0) {
+                stack[top++] = nodeStart[node];
+                stack[top++] = node + 1;
+                continue;
+            }
+            for (int i = nodeStart[node], end = i + nodeCount[node]; i < end; ++i) {
+                double t = intersectFace(faceOrder[i], ox, oy, oz, dx, dy, dz);
+                // faces include their edges, a ray through a shared edge or vertex hits several faces there
+                if (t > 0 && !hasDistance(result, t)) {
+                    if (result == null) result = new LinkedList<>();
+                    result.add(new GeoPoint(this, ray.getPoint(t), t));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected GeoPoint findClosestGeoIntersectionHelper(Ray ray, double maxDistance) {
+        Point p0 = ray.getP0();
+        Vector dir = ray.getDir();
+        double ox = p0.getX(), oy = p0.getY(), oz = p0.getZ();
+        double dx = dir.getX(), dy = dir.getY(), dz = dir.getZ();
+        int signs = ray.getSigns();
+
+        double best = maxDistance;
+        int bestFace = -1;
+        int[] stack = new int[depth + 1];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (!hitsNode(node, ray, ox, oy, oz, best)) continue;
+            if (nodeCount[node] == 0) {
+                // visit first the child on the side the ray comes from
+                // the sign bit of an axis is 1 << axis
+                if ((signs & (1 << nodeAxis[node])) != 0) {
+                    stack[top++] = node + 1;
+                    stack[top++] = nodeStart[node];
+                } else {
+                    stack[top++] = nodeStart[node];
+                    stack[top++] = node + 1;
+                }
+                continue;
+            }
+            for (int i = nodeStart[node], end = i + nodeCount[node]; i < end; ++i) {
+                double t = intersectFace(faceOrder[i], ox, oy, oz, dx, dy, dz);
+                if (t > 0 && t < best) {
+                    best = t;
+                    bestFace = faceOrder[i];
+                }
+            }
+        }
+        if (bestFace < 0) return null;
+        GeoPoint gp = new GeoPoint(this, ray.getPoint(best), best);
+        // the face is known here, spares the point query of getNormal
+        gp.normal = faceNormal(bestFace);
+        return gp;
+    }
+}
@@ -55,6 +55,16 @@ public class Tube extends RadialGeometry {
         return O_P.normalize();
     }
 
+    /**
+     * An infinite tube has no bounding box
+     *
+     * @return {@code null}
+     */
+    @Override
+    public BoundingBox getBoundingBox() {
+        return null;
+    }
+
     /**
      * Helper method to find the intersections between the given ray and the tube geometry.
      *
@@ -69,14 +79,13 @@ public class Tube extends RadialGeometry {
 
         if (ray.getP0().equals(axisRay.getP0())) { // In case the ray starts on the p0.
             if (isZero(dirV))
-                return List.of(new GeoPoint(this, ray.getPoint(radius)));
+                return List.of(new GeoPoint(this, ray.getPoint(radius), radius));
 
             if (dir.equals(v.scale(dir.dotProdouct(v))))//הקרן פונה לכיוון או הרחק מהצילינדר מבלי לחצות אותו. במקרה זה, 'null' מוחזר כדי לציין שאין צמתים.
                 return null;
 
-            return List.of(new GeoPoint(this, ray.getPoint(Math.sqrt(radius * radius
-                    / dir.subtract(v.scale(dir.dotProdouct(v)))
-                    .lengthSquared()))));
+            double t = Math.sqrt(radius * radius / dir.subtract(v.scale(dir.dotProdouct(v))).lengthSquared());
+            return List.of(new GeoPoint(this, ray.getPoint(t), t));
         }
 
         Vector deltaP = ray.getP0().subtract(axisRay.getP0());
@@ -90,7 +99,7 @@ public class Tube extends RadialGeometry {
             if (isZero(b)) { // If a constant equation.
                 return null;
             }
-            return List.of(new GeoPoint(this, ray.getPoint(-c / b))); // if it's linear, there's a solution.
+            return List.of(new GeoPoint(this, ray.getPoint(-c / b), -c / b)); // if it's linear, there's a solution.
         }
 
         double discriminant = alignZero(b * b - 4 * a * c);
@@ -106,18 +115,18 @@ public class Tube extends RadialGeometry {
 
         if (t1 > 0 && t2 > 0) {
             List<GeoPoint> _points = new ArrayList<>(2);
-            _points.add(new GeoPoint(this, ray.getPoint(t1)));
-            _points.add(new GeoPoint(this, ray.getPoint(t2)));
+            _points.add(new GeoPoint(this, ray.getPoint(t1), t1));
+            _points.add(new GeoPoint(this, ray.getPoint(t2), t2));
             return _points;
         }
         else if (t1 > 0) {
             List<GeoPoint> _points = new ArrayList<>(1);
-            _points.add(new GeoPoint(this, ray.getPoint(t1)));
+            _points.add(new GeoPoint(this, ray.getPoint(t1), t1));
             return  _points;
         }
         else if (t2 > 0) {
             List<GeoPoint> _points = new ArrayList<>(1);
-            _points.add(new GeoPoint(this, ray.getPoint(t2)));
+            _points.add(new GeoPoint(this, ray.getPoint(t2), t2));
             return _points;
         }
         return null;
@@ -0,0 +1,396 @@
+package geometries;
+
+import primitives.Double3;
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * A collection of geometries arranged in a uniform voxel grid.<br/>
+ * It is an alternative to {@link Geometries} for densely packed scenes made of many small objects
+ * (e.g. particles). A ray walks through the grid cells along its path (3D-DDA) and tests only the
+ * objects registered in the cells it crosses. The grid resolution is chosen automatically from the
+ * number of objects and the scene bounds, and the grid is rebuilt on the first query after objects
+ * are added. Unbounded geometries (planes, tubes) are tested against every ray.
+ */
+public class UniformGrid extends Geometries {
+    /**
+     * Number of cells per object along the cube root, as suggested for uniform grids
+     */
+    private static final double DENSITY = 3;
+    /**
+     * Maximum number of cells along a single axis
+     */
+    private static final int MAX_RESOLUTION = 128;
+
+    /**
+     * The grid data, built on demand and dropped whenever geometries are added,
+     * to this object or to a nested Geometries
+     */
+    private volatile Grid grid = null;
+
+    /**
+     * empty constructor
+     */
+    public UniformGrid() {
+        super();
+    }
+
+    /**
+     * constructor with param. get list of geometries
+     *
+     * @param geometries the geometries to be arranged in the grid
+     */
+    public UniformGrid(Intersectable... geometries) {
+        super(geometries);
+    }
+
+    @Override
+    protected void changed() {
+        super.changed();
+        grid = null;
+    }
+
+    /**
+     * Returns the grid, building it if needed.
+     *
+     * @return the grid
+     */
+    private Grid getGrid() {
+        Grid g = grid;
+        if (g == null) {
+            synchronized (this) {
+                g = grid;
+                if (g == null)
+                    grid = g = new Grid(geometries);
+            }
+        }
+        return g;
+    }
+
+    /**
+     * Helper method to find all the intersections between the given ray and the geometries in the grid.
+     * Objects spanning several cells are tested only once per ray.
+     *
+     * @param ray the ray for which to find the intersections
+     * @return a list of GeoPoints representing the intersections, or {@code null} if no intersections are found
+     */
+    @Override
+    public List<GeoPoint> findGeoIntersectionsHelper(Ray ray) {
+        Grid g = getGrid();
+        List<GeoPoint> result = null;
+        for (Intersectable item : g.unbounded)
+            result = addAll(result, item.findGeoIntersections(ray));
+        if (g.cells == null)
+            return result;
+
+        Set<Intersectable> tested = Collections.newSetFromMap(new IdentityHashMap<>());
+        Walker walker = g.walker(ray);
+        while (walker != null && walker.valid) {
+            int cell = walker.cell();
+            for (int i = g.cellStart[cell]; i < g.cellStart[cell + 1]; ++i) {
+                Intersectable item = g.cells[i];
+                if (tested.add(item))
+                    result = addAll(result, item.findGeoIntersections(ray));
+            }
+            walker.next();
+        }
+        return result;
+    }
+
+    /**
+     * Helper method to find the intersection closest to the ray head. The grid cells are visited
+     * front to back, and the walk stops at the first cell that contains a confirmed hit,
+     * i.e. a hit lying inside that cell.
+     *
+     * @param ray         the ray for which to find the intersection
+     * @param maxDistance the distance from the ray head beyond which intersections are ignored
+     * @return the closest intersection nearer than maxDistance, or {@code null} if there is none
+     */
+    @Override
+    protected GeoPoint findClosestGeoIntersectionHelper(Ray ray, double maxDistance) {
+        Grid g = getGrid();
+        GeoPoint closest = null;
+        for (Intersectable item : g.unbounded) {
+            GeoPoint gp = item.findClosestGeoIntersection(ray, maxDistance);
+            if (gp != null) {
+                closest = gp;
+                maxDistance = gp.distanceAlong(ray);
+            }
+        }
+        if (g.cells == null)
+            return closest;
+
+        Walker walker = g.walker(ray);
+        while (walker != null && walker.valid && walker.tEnter < maxDistance) {
+            int cell = walker.cell();
+            for (int i = g.cellStart[cell]; i < g.cellStart[cell + 1]; ++i) {
+                GeoPoint gp = g.cells[i].findClosestGeoIntersection(ray, maxDistance);
+                if (gp != null) {
+                    closest = gp;
+                    maxDistance = gp.distanceAlong(ray);
+                }
+            }
+            // a hit beyond the cell may still be preceded by a hit of an object in a later cell
+            if (maxDistance <= walker.tExit)
+                break;
+            walker.next();
+        }
+        return closest;
+    }
+
+    /**
+     * Helper method to find how much light passes through the geometries along a ray segment.
+     * Only the cells before the light are visited, each object is checked once,
+     * and the walk stops once the light is found to be blocked.
+     *
+     * @param ray         the ray from the shaded point towards the light
+     * @param maxDistance the distance from the ray head to the light source
+     * @param minK        the transparency below which the light is considered fully blocked
+     * @return the transparency along the segment, {@link Double3#ZERO} if the light is blocked
+     */
+    @Override
+    protected Double3 findTransparencyHelper(Ray ray, double maxDistance, double minK) {
+        Grid g = getGrid();
+        Double3 ktr = Double3.ONE;
+        for (Intersectable item : g.unbounded) {
+            ktr = ktr.product(item.findTransparency(ray, maxDistance, minK));
+            if (ktr.lowerThan(minK))
+                return Double3.ZERO;
+        }
+        if (g.cells == null)
+            return ktr;
+
+        Set<Intersectable> tested = Collections.newSetFromMap(new IdentityHashMap<>());
+        Walker walker = g.walker(ray);
+        while (walker != null && walker.valid && walker.tEnter < maxDistance) {
+            int cell = walker.cell();
+            for (int i = g.cellStart[cell]; i < g.cellStart[cell + 1]; ++i) {
+                Intersectable item = g.cells[i];
+                if (tested.add(item)) {
+                    ktr = ktr.product(item.findTransparency(ray, maxDistance, minK));
+                    if (ktr.lowerThan(minK))
+                        return Double3.ZERO;
+                }
+            }
+            walker.next();
+        }
+        return ktr;
+    }
+
+    private static List<GeoPoint> addAll(List<GeoPoint> result, List<GeoPoint> points) {
+        if (points == null) return result;
+        if (result == null) result = new LinkedList<>();
+        result.addAll(points);
+        return result;
+    }
+
+    /**
+     * Immutable grid data: the cells array holds the objects of all the cells one after another,
+     * cellStart holds the index of the first object of each cell
+     */
+    private static final class Grid {
+        final Intersectable[] unbounded;
+        final Intersectable[] cells;
+        final int[] cellStart;
+        final int nx, ny, nz;
+        final double minX, minY, minZ;
+        final double sizeX, sizeY, sizeZ;
+        final BoundingBox box;
+
+        Grid(List<Intersectable> objects) {
+            List<Intersectable> bounded = new ArrayList<>(objects.size());
+            List<BoundingBox> boxes = new ArrayList<>(objects.size());
+            List<Intersectable> infinite = new ArrayList<>();
+            BoundingBox union = null;
+            for (Intersectable object : objects) {
+                BoundingBox b = object.getBoundingBox();
+                if (b == null) {
+                    infinite.add(object);
+                } else {
+                    bounded.add(object);
+                    boxes.add(b);
+                    union = union == null ? b : union.union(b);
+                }
+            }
+            unbounded = infinite.toArray(new Intersectable[0]);
+
+            if (union == null) {
+                box = null;
+                cells = null;
+                cellStart = null;
+                nx = ny = nz = 0;
+                minX = minY = minZ = sizeX = sizeY = sizeZ = 0;
+                return;
+            }
+            box = union;
+
+            // resolution: about DENSITY * cbrt(N) cells along the longest axis, the cells are about cubic
+            double dx = union.maxX - union.minX, dy = union.maxY - union.minY, dz = union.maxZ - union.minZ;
+            double maxExtent = Math.max(dx, Math.max(dy, dz));
+            double cellsPerUnit = maxExtent > 0 ? DENSITY * Math.cbrt(bounded.size()) / maxExtent : 0;
+            nx = resolution(dx, cellsPerUnit);
+            ny = resolution(dy, cellsPerUnit);
+            nz = resolution(dz, cellsPerUnit);
+            minX = union.minX;
+            minY = union.minY;
+            minZ = union.minZ;
+            sizeX = dx / nx;
+            sizeY = dy / ny;
+            sizeZ = dz / nz;
+
+            // count, then place the objects in all the cells their boxes overlap
+            int[] start = new int[nx * ny * nz + 1];
+            for (BoundingBox b : boxes)
+                forEachCell(b, cell -> start[cell + 1]++);
+            for (int i = 1; i < start.length; ++i)
+                start[i] += start[i - 1];
+            Intersectable[] all = new Intersectable[start[start.length - 1]];
+            int[] fill = start.clone();
+            for (int i = 0; i < boxes.size(); ++i) {
+                Intersectable object = bounded.get(i);
+                forEachCell(boxes.get(i), cell -> all[fill[cell]++] = object);
+            }
+            cells = all;
+            cellStart = start;
+        }
+
+        private static int resolution(double extent, double cellsPerUnit) {
+            int n = (int) Math.round(extent * cellsPerUnit);
+            return Math.max(1, Math.min(MAX_RESOLUTION, n));
+        }
+
+        private void forEachCell(BoundingBox b, IntConsumer action) {
+            int x0 = index(b.minX, minX, sizeX, nx), x1 = index(b.maxX, minX, sizeX, nx);
+            int y0 = index(b.minY, minY, sizeY, ny), y1 = index(b.maxY, minY, sizeY, ny);
+            int z0 = index(b.minZ, minZ, sizeZ, nz), z1 = index(b.maxZ, minZ, sizeZ, nz);
+            for (int z = z0; z <= z1; ++z)
+                for (int y = y0; y <= y1; ++y)
+                    for (int x = x0; x <= x1; ++x)
+                        action.accept(x + nx * (y + ny * z));
+        }
+
+        /**
+         * Calculates the cell index of a coordinate on an axis, clamped to the grid
+         */
+        private static int index(double coordinate, double min, double size, int n) {
+            if (size <= 0) return 0;
+            int i = (int) ((coordinate - min) / size);
+            return i < 0 ? 0 : i >= n ? n - 1 : i;
+        }
+
+        /**
+         * Starts a walk of the ray through the grid cells
+         *
+         * @param ray the ray
+         * @return the walker positioned on the first cell, or {@code null} if the ray misses the grid
+         */
+        Walker walker(Ray ray) {
+            Point p0 = ray.getP0();
+            Vector dir = ray.getDir();
+            double[] o = {p0.getX(), p0.getY(), p0.getZ()};
+            double[] d = {dir.getX(), dir.getY(), dir.getZ()};
+            double[] lo = {box.minX, box.minY, box.minZ};
+            double[] hi = {box.maxX, box.maxY, box.maxZ};
+            double[] inv = {ray.getInvDirX(), ray.getInvDirY(), ray.getInvDirZ()};
+            int signs = ray.getSigns();
+
+            // clip the ray interval against the grid box, the sign bit of an axis is 1 << axis
+            double tEnter = ray.getTMin(), tExit = ray.getTMax();
+            for (int axis = 0; axis < 3; ++axis) {
+                boolean negative = (signs & (1 << axis)) != 0;
+                double near = ((negative ? hi : lo)[axis] - o[axis]) * inv[axis];
+                double far = ((negative ? lo : hi)[axis] - o[axis]) * inv[axis];
+                if (near > tEnter) tEnter = near;
+                if (far < tExit) tExit = far;
+            }
+            if (tEnter > tExit)
+                return null;
+            return new Walker(this, o, d, tEnter, tExit);
+        }
+    }
+
+    /**
+     * 3D-DDA walk of a ray through the grid cells, in the order the ray crosses them
+     */
+    private static final class Walker {
+        private final int[] n;
+        private final int[] cell = new int[3];
+        private final int[] step = new int[3];
+        private final double[] tNext = new double[3];
+        private final double[] tDelta = new double[3];
+        private final double tEnd;
+        /**
+         * The ray parameter range of the current cell
+         */
+        double tEnter, tExit;
+        /**
+         * Whether the walker is still inside the grid
+         */
+        boolean valid = true;
+
+        Walker(Grid grid, double[] o, double[] d, double tStart, double tEnd) {
+            n = new int[]{grid.nx, grid.ny, grid.nz};
+            double[] min = {grid.minX, grid.minY, grid.minZ};
+            double[] size = {grid.sizeX, grid.sizeY, grid.sizeZ};
+            this.tEnd = tEnd;
+            for (int axis = 0; axis < 3; ++axis) {
+                double entry = o[axis] + d[axis] * tStart;
+                cell[axis] = Grid.index(entry, min[axis], size[axis], n[axis]);
+                if (d[axis] > 0) {
+                    step[axis] = 1;
+                    tDelta[axis] = size[axis] / d[axis];
+                    tNext[axis] = (min[axis] + (cell[axis] + 1) * size[axis] - o[axis]) / d[axis];
+                } else if (d[axis] < 0) {
+                    step[axis] = -1;
+                    tDelta[axis] = -size[axis] / d[axis];
+                    tNext[axis] = (min[axis] + cell[axis] * size[axis] - o[axis]) / d[axis];
+                } else {
+                    step[axis] = 0;
+                    tDelta[axis] = Double.POSITIVE_INFINITY;
+                    tNext[axis] = Double.POSITIVE_INFINITY;
+                }
+                // a single cell along the axis is never left through it
+                if (n[axis] == 1) tNext[axis] = Double.POSITIVE_INFINITY;
+            }
+            tEnter = tStart;
+            tExit = Math.min(tEnd, Math.min(tNext[0], Math.min(tNext[1], tNext[2])));
+        }
+
+        /**
+         * @return the flat index of the current cell
+         */
+        int cell() {
+            return cell[0] + n[0] * (cell[1] + n[1] * cell[2]);
+        }
+
+        /**
+         * Moves to the next cell along the ray
+         */
+        void next() {
+            int axis = tNext[0] < tNext[1]
+                    ? (tNext[0] < tNext[2] ? 0 : 2)
+                    : (tNext[1] < tNext[2] ? 1 : 2);
+            if (tNext[axis] >= tEnd) {
+                valid = false;
+                return;
+            }
+            cell[axis] += step[axis];
+            if (cell[axis] < 0 || cell[axis] >= n[axis]) {
+                valid = false;
+                return;
+            }
+            tEnter = tNext[axis];
+            tNext[axis] += tDelta[axis];
+            tExit = Math.min(tEnd, Math.min(tNext[0], Math.min(tNext[1], tNext[2])));
+        }
+    }
+}
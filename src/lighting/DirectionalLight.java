@@ -16,7 +16,8 @@ public class DirectionalLight extends Light implements LightSource {
      */
     public DirectionalLight(Color intensity, Vector direction) {
         super(intensity);
-        this.direction = direction;
+        // normalized once here rather than on every getL call
+        this.direction = direction.normalize();
     }
 
     /**
@@ -34,7 +35,7 @@ public class DirectionalLight extends Light implements LightSource {
      */
     @Override
     public Vector getL(Point p) {
-        return direction.normalize();
+        return direction;
     }
 
     /**
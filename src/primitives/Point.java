@@ -1,6 +1,6 @@
 package primitives;
 
-import java.util.Objects;
+import static primitives.Util.isZero;
 
 /**
  * Represents a 3D point in space.
@@ -9,9 +9,13 @@ public class Point {
     /**
      * The zero point, with coordinates (0, 0, 0).
      */
-    public static final Point ZERO = new Point(0, 0, 0);// Coordinates of the point
+    public static final Point ZERO = new Point(0, 0, 0);
 
-    final protected Double3 xyz;
+    /**
+     * Coordinates of the point, stored directly rather than in a separate Double3 object
+     * to keep a point a single small heap object
+     */
+    final protected double x, y, z;
 
     /**
      * Constructs a new point from a `Double3` object.
@@ -30,8 +34,9 @@ public class Point {
      * @param d3 the z-coordinate of the point
      */
     public Point(double d1, double d2, double d3) {
-        xyz=new Double3(d1, d2, d3);
-
+        x = d1;
+        y = d2;
+        z = d3;
     }
 
     /**
@@ -41,7 +46,7 @@ public class Point {
      * @return the vector from the other point to this point
      */
     public Vector subtract(Point p) {
-        return new Vector(this.xyz.subtract(p.xyz));
+        return new Vector(x - p.x, y - p.y, z - p.z);
     }
 
     /**
@@ -51,7 +56,7 @@ public class Point {
      * @return the new point obtained by adding the vector to this point
      */
     public Point add(Vector v) {
-        return new Point(this.xyz.add(v.xyz));
+        return new Point(x + v.x, y + v.y, z + v.z);
     }
 
     /**
@@ -61,9 +66,9 @@ public class Point {
      * @return the squared distance between this point and the other point
      */
     public double distanceSquared(Point point2) {
-        double dx = xyz.d1 - point2.xyz.d1;
-        double dy = xyz.d2 - point2.xyz.d2;
-        double dz = xyz.d3 - point2.xyz.d3;
+        double dx = x - point2.x;
+        double dy = y - point2.y;
+        double dz = z - point2.z;
         return dx * dx + dy * dy + dz * dz;
     }
 
@@ -90,7 +95,8 @@ public class Point {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Point point)) return false;
-        return xyz.equals(point.xyz);
+        // same tolerance as Double3 equality
+        return isZero(x - point.x) && isZero(y - point.y) && isZero(z - point.z);
     }
     /**
      * Returns a string representation of this point.
@@ -100,7 +106,7 @@ public class Point {
     @Override
     public String toString() {
         return "Point{" +
-                "xyz=" + xyz +
+                "xyz=(" + x + "," + y + "," + z + ")" +
                 '}';
     }
 
@@ -108,20 +114,20 @@ public class Point {
      * @return the X coordinate value of this point
      */
     public double getX() {
-        return xyz.d1;
+        return x;
     }
 
     /**
      * @return the Y coordinate value of this point
      */
     public double getY() {
-        return xyz.d2;
+        return y;
     }
     /**
      * @return the Z coordinate value of this point
      */
     public double getZ() {
-        return xyz.d3;
+        return z;
     }
 
 }
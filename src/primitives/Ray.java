@@ -20,6 +20,31 @@ public class Ray {
      * The normalized direction vector of the ray.
      */
     final private Vector dir;
+    /**
+     * The inverses of the direction coordinates, for the slab tests of the acceleration structures
+     */
+    final private double invX, invY, invZ;
+    /**
+     * Bit mask of the negative direction coordinates: {@link #NEGATIVE_X}, {@link #NEGATIVE_Y} and {@link #NEGATIVE_Z}
+     */
+    final private int signs;
+    /**
+     * The interval of distances from the head considered by the intersection queries
+     */
+    final private double tMin, tMax;
+
+    /**
+     * Sign bit of a negative x direction coordinate, see {@link #getSigns()}
+     */
+    public static final int NEGATIVE_X = 1;
+    /**
+     * Sign bit of a negative y direction coordinate, see {@link #getSigns()}
+     */
+    public static final int NEGATIVE_Y = 2;
+    /**
+     * Sign bit of a negative z direction coordinate, see {@link #getSigns()}
+     */
+    public static final int NEGATIVE_Z = 4;
 
     /**
      * Constructs a new Ray object with a given starting point and direction vector.
@@ -28,8 +53,20 @@ public class Ray {
      * @param d  the direction vector of the ray
      */
     public Ray(Point p0, Vector d) {
-        P0 = p0;
-        dir = d.normalize();
+        this(p0, d, 0, Double.POSITIVE_INFINITY, true);
+    }
+
+    /**
+     * Constructs a new Ray object limited to an interval of distances from its head.
+     *
+     * @param p0   the starting point of the ray
+     * @param d    the direction vector of the ray
+     * @param tMin the least distance from the head considered by the intersection queries
+     * @param tMax the largest distance from the head considered by the intersection queries
+     * @throws IllegalArgumentException if the interval is empty or starts behind the head
+     */
+    public Ray(Point p0, Vector d, double tMin, double tMax) {
+        this(p0, d, tMin, tMax, true);
     }
 
 
@@ -41,9 +78,86 @@ public class Ray {
      * @param normal normal
      */
     public Ray(Point p0, Vector direction, Vector normal) {
-        Vector delta = normal.scale(normal.dotProdouct(direction) > 0 ? DELTA : - DELTA);
-        this.P0 = p0.add(delta);
-        this.dir = direction;
+        this(shift(p0, direction, normal), direction, 0, Double.POSITIVE_INFINITY, false);
+    }
+
+    /**
+     * Constructs a ray, normalizing its direction only when asked to
+     *
+     * @param normalize false if the direction is known to be normalized
+     */
+    private Ray(Point p0, Vector d, double tMin, double tMax, boolean normalize) {
+        if (tMin < 0 || tMin > tMax)
+            throw new IllegalArgumentException("The ray interval must be a non empty interval in front of the head");
+        P0 = p0;
+        dir = normalize ? d.normalize() : d;
+        invX = 1 / dir.getX();
+        invY = 1 / dir.getY();
+        invZ = 1 / dir.getZ();
+        signs = signs(invX, invY, invZ);
+        this.tMin = tMin;
+        this.tMax = tMax;
+    }
+
+    /**
+     * Constructs a ray with a direction the caller knows to be normalized, skipping the
+     * square root and the allocation of the normalization. The direction is not checked,
+     * a direction that is not normalized breaks the distances of all the intersections.
+     *
+     * @param p0      the starting point of the ray
+     * @param unitDir the normalized direction vector of the ray
+     * @return the ray
+     */
+    public static Ray ofUnit(Point p0, Vector unitDir) {
+        return new Ray(p0, unitDir, 0, Double.POSITIVE_INFINITY, false);
+    }
+
+    /**
+     * Moves a point by DELTA along a normal, to the side of the normal the direction goes to
+     */
+    private static Point shift(Point p0, Vector direction, Vector normal) {
+        double delta = normal.dotProdouct(direction) > 0 ? DELTA : - DELTA;
+        // p0 + delta * normal, without the intermediate vector
+        return new Point(p0.getX() + normal.getX() * delta,
+                p0.getY() + normal.getY() * delta,
+                p0.getZ() + normal.getZ() * delta);
+    }
+
+    /**
+     * Constructs a copy of a ray limited to another interval of distances
+     */
+    private Ray(Ray ray, double tMin, double tMax) {
+        if (tMin < 0 || tMin > tMax)
+            throw new IllegalArgumentException("The ray interval must be a non empty interval in front of the head");
+        P0 = ray.P0;
+        dir = ray.dir;
+        invX = ray.invX;
+        invY = ray.invY;
+        invZ = ray.invZ;
+        signs = ray.signs;
+        this.tMin = tMin;
+        this.tMax = tMax;
+    }
+
+    /**
+     * Calculates the sign mask of the direction from its inverse coordinates,
+     * which keep the sign of a zero coordinate
+     */
+    private static int signs(double invX, double invY, double invZ) {
+        return (invX < 0 ? NEGATIVE_X : 0) | (invY < 0 ? NEGATIVE_Y : 0) | (invZ < 0 ? NEGATIVE_Z : 0);
+    }
+
+    /**
+     * Returns the same ray limited to another interval of distances from its head,
+     * e.g. clipped at the best intersection found so far.
+     *
+     * @param tMin the least distance from the head considered by the intersection queries
+     * @param tMax the largest distance from the head considered by the intersection queries
+     * @return the limited ray
+     * @throws IllegalArgumentException if the interval is empty or starts behind the head
+     */
+    public Ray withInterval(double tMin, double tMax) {
+        return new Ray(this, tMin, tMax);
     }
 
     /**
@@ -64,6 +178,71 @@ public class Ray {
         return dir;
     }
 
+    /**
+     * @return the inverse of the x coordinate of the direction, infinite if it is 0
+     */
+    public double getInvDirX() {
+        return invX;
+    }
+
+    /**
+     * @return the inverse of the y coordinate of the direction, infinite if it is 0
+     */
+    public double getInvDirY() {
+        return invY;
+    }
+
+    /**
+     * @return the inverse of the z coordinate of the direction, infinite if it is 0
+     */
+    public double getInvDirZ() {
+        return invZ;
+    }
+
+    /**
+     * Returns the signs of the direction coordinates, for picking the near and the far
+     * side of a slab without comparing the distances.
+     *
+     * @return the bit mask of {@link #NEGATIVE_X}, {@link #NEGATIVE_Y} and {@link #NEGATIVE_Z}
+     * for the negative coordinates, the bit of the axis i (x = 0) is {@code 1 << i}
+     */
+    public int getSigns() {
+        return signs;
+    }
+
+    /**
+     * @return the least distance from the head considered by the intersection queries, 0 by default
+     */
+    public double getTMin() {
+        return tMin;
+    }
+
+    /**
+     * @return the largest distance from the head considered by the intersection queries, infinite by default
+     */
+    public double getTMax() {
+        return tMax;
+    }
+
+    /**
+     * Checks whether the ray is limited to a part of its length
+     *
+     * @return true if the interval starts after the head or ends before infinity
+     */
+    public boolean isLimited() {
+        return tMin > 0 || tMax != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Checks whether a distance from the head lies in the ray interval
+     *
+     * @param t the distance
+     * @return true if tMin &le; t &le; tMax
+     */
+    public boolean inInterval(double t) {
+        return t >= tMin && t <= tMax;
+    }
+
     /**
      * Returns a string representation of the Ray object.
      *
@@ -98,7 +277,23 @@ public class Ray {
      * @return The point on the line at the specified distance
      */
     public Point getPoint(double distance) {
-        return P0.add(dir.scale(distance));
+        // P0 + distance * dir, without the intermediate vector
+        return new Point(P0.getX() + dir.getX() * distance,
+                P0.getY() + dir.getY() * distance,
+                P0.getZ() + dir.getZ() * distance);
+    }
+
+    /**
+     * Returns the distance of a point on the ray from the starting point, the inverse of {@link #getPoint(double)}.
+     * For a point off the ray it is the length of its projection on the ray direction.
+     *
+     * @param point a point on the ray
+     * @return the distance of the point along the ray
+     */
+    public double distanceAlong(Point point) {
+        return (point.getX() - P0.getX()) * dir.getX()
+                + (point.getY() - P0.getY()) * dir.getY()
+                + (point.getZ() - P0.getZ()) * dir.getZ();
     }
 
     /**
@@ -122,16 +317,27 @@ public class Ray {
     public GeoPoint findClosestGeoPoint(List<GeoPoint> pointList) {
         if (pointList.size() == 0)
             return null;
-        double closestDistanceSquared = P0.distanceSquared(pointList.get(0).point);
+        double closestDistance = distance(pointList.get(0));
         int index = 0;
         for (int i = 1; i < pointList.size(); i++) {
-            double distanceSquared = P0.distanceSquared(pointList.get(i).point);
-            if (distanceSquared < closestDistanceSquared) {
-                closestDistanceSquared = distanceSquared;
+            double distance = distance(pointList.get(i));
+            if (distance < closestDistance) {
+                closestDistance = distance;
                 index = i;
             }
         }
         return pointList.get(index);
     }
 
+    /**
+     * Returns the distance of an intersection from the ray head - the distance recorded
+     * by the intersected geometry if there is one, otherwise calculated from the point.
+     *
+     * @param geoPoint the intersection
+     * @return the distance from the ray head
+     */
+    private double distance(GeoPoint geoPoint) {
+        return Double.isNaN(geoPoint.t) ? P0.distance(geoPoint.point) : geoPoint.t;
+    }
+
 }
@@ -1,5 +1,7 @@
 package primitives;
 
+import static primitives.Util.isZero;
+
 public class Vector extends Point {
     /**
      * Constructs a Vector object with the specified xyz coordinates.
@@ -9,7 +11,7 @@ public class Vector extends Point {
      */
     Vector(Double3 xyz) {
         super(xyz);
-        if (xyz.equals(Double3.ZERO)) {
+        if (isZeroVector()) {
             throw new IllegalArgumentException("Vector cannot be zero vector");
         }
     }
@@ -26,11 +28,20 @@ public class Vector extends Point {
     //}
     public Vector(double x, double y, double z) {
         super(x, y, z);
-        if(xyz.equals(Double3.ZERO)){
+        if(isZeroVector()){
             throw new IllegalArgumentException("Vector can't be vector(0,0,0)");
         }
     }
 
+    /**
+     * Checks whether all the coordinates are zero, with the tolerance of Double3 equality
+     *
+     * @return true for the zero vector
+     */
+    private boolean isZeroVector() {
+        return isZero(x) && isZero(y) && isZero(z);
+    }
+
     /**
      * Adds the given vector to this vector and returns the result as a new Vector object.
      *
@@ -38,7 +49,7 @@ public class Vector extends Point {
      * @return A new Vector object representing the sum of this vector and the given vector
      */
     public Vector add(Vector v) {
-        return new Vector(this.xyz.add(v.xyz));
+        return new Vector(x + v.x, y + v.y, z + v.z);
     }
 
     /**
@@ -51,11 +62,7 @@ public class Vector extends Point {
         //return new Vector(xyz.scale(d));
     //}
     public Vector scale(double number) {
-        double x = this.xyz.d1 * number;
-        double y = this.xyz.d2 * number;
-        double z = this.xyz.d3 * number;
-
-        return new Vector(x, y, z);
+        return new Vector(x * number, y * number, z * number);
 
     }
 
@@ -66,9 +73,9 @@ public class Vector extends Point {
      * @return The dot product of this vector and the given vector
      */
     public double dotProdouct(Vector v) {
-        return (v.xyz.d1 * this.xyz.d1
-                + v.xyz.d2 * this.xyz.d2
-                + v.xyz.d3 * this.xyz.d3);
+        return (v.x * this.x
+                + v.y * this.y
+                + v.z * this.z);
     }
 
     /**
@@ -78,11 +85,9 @@ public class Vector extends Point {
      * @return A new Vector object representing the cross product of this vector and the given vector
      */
     public Vector crossProduct(Vector v) {
-        double x = this.xyz.d2 * v.xyz.d3 - this.xyz.d3 * v.xyz.d2;
-        double y = this.xyz.d3 * v.xyz.d1 - this.xyz.d1 * v.xyz.d3;
-        double z = this.xyz.d1 * v.xyz.d2 - this.xyz.d2 * v.xyz.d1;
-
-        return new Vector(x, y, z);
+        return new Vector(this.y * v.z - this.z * v.y,
+                this.z * v.x - this.x * v.z,
+                this.x * v.y - this.y * v.x);
     }
 
     /**
@@ -91,9 +96,9 @@ public class Vector extends Point {
      * @return The square of the length of this vector
      */
     public double lengthSquared() {
-        return xyz.d1 * xyz.d1
-                + xyz.d2 * xyz.d2
-                + xyz.d3 * xyz.d3;
+        return x * x
+                + y * y
+                + z * z;
     }
 
     /**
@@ -112,10 +117,7 @@ public class Vector extends Point {
      */
     public Vector normalize() {
         double len = length();
-        double x = this.xyz.d1/len;
-        double y = this.xyz.d2/len;
-        double z = this.xyz.d3/len;
-        return new Vector(x, y, z);
+        return new Vector(x / len, y / len, z / len);
     }
     /**
      * Returns a string representation of this vector.
@@ -125,7 +127,7 @@ public class Vector extends Point {
     @Override
     public String toString() {
         return "Vector{" +
-                "xyz=" + xyz +
+                "xyz=(" + x + "," + y + "," + z + ")" +
                 '}';
 
     }
@@ -142,6 +144,6 @@ public class Vector extends Point {
     public boolean equals(Object o) {
         if(this == o) return true;
         if (!(o instanceof Vector vector)) return false;
-        return xyz.equals(vector.xyz);
+        return super.equals(vector);
     }
 }
@@ -1,15 +1,16 @@
 package renderer;
 import java.util.*;
+import geometries.Intersectable.GeoPoint;
 import geometries.Plane;
 import primitives.Color;
 import primitives.Point;
 import primitives.Ray;
 import primitives.Vector;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.MissingResourceException;
-import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import static java.lang.Math.sqrt;
 import static primitives.Util.alignZero;
 import static primitives.Util.isZero;
@@ -22,18 +23,58 @@ import static primitives.Util.isZero;
  * as the view plane size and distance from the camera.
  */
 public class Camera {
-    private int threadsCount= 3;
+    /**
+     * amount of threads used by the multi-threaded rendering
+     */
+    private int threadsCount = Runtime.getRuntime().availableProcessors();
+    /**
+     * edge length in pixels of the image tiles handed to the rendering threads
+     */
+    private int tileSize = 16;
+    /**
+     * executor running the image tiles as separate tasks, null for the built-in fork/join pool
+     */
+    private Executor executor = null;
+    /**
+     * whether each render job runs its tiles on new virtual threads
+     */
+    private boolean virtualThreads = false;
     private final int maxLevelAdaptiveSS = 3;    //maximum level of recursion for adaptive supersampling
-    /*
-     * random variable used for stochastic ray creation
+    /**
+     * sample pattern of the anti-aliasing rays in a pixel
      */
-    private final Random r = new Random();
+    private Sampler sampler = new StratifiedSampler(0);
     private int _N = 8;
     private int _M = 8;
     /*
     isAntiAliasing- for anti aliasing
      */
     private boolean isAntiAliasing = false;
+    /**
+     * amount of anti-aliasing rays added in each batch of the adaptive sample count, 0 for a fixed grid
+     */
+    private int minSamples = 0;
+    /**
+     * maximal amount of anti-aliasing rays of a pixel with the adaptive sample count
+     */
+    private int maxSamples = 0;
+    /**
+     * half width of the 95% confidence interval of the pixel color, in 8 bit channel units,
+     * at which the adaptive sample count stops adding rays
+     */
+    private double tolerance = 0;
+    /**
+     * whether anti-aliasing is limited to the pixels on discontinuities found by a pre-pass
+     */
+    private boolean edgeDetection = false;
+    /**
+     * largest difference of an 8 bit channel between neighbour pixels which is not an edge
+     */
+    private int edgeColorThreshold = 8;
+    /**
+     * largest angle in degrees between neighbour pixel normals which is not an edge
+     */
+    private double edgeAngle = 20;
     private final Point location;//the starting point
     private final Vector vTo;
     private final Vector vUp;
@@ -43,6 +84,10 @@ public class Camera {
     private double distance;
     private ImageWriter imageWriter;
     private RayTracerBase rayTracer;
+    /**
+     * primary rays of the last resolution rendered, null when the view plane changes
+     */
+    private PixelGrid pixelGrid;
     /**
      * Constructs a new Camera object with the specified location,
      * direction vectors vTo and vUp.
@@ -134,6 +179,7 @@ public class Camera {
     public Camera setVPSize(double width, double height) {
         this.width = width;
         this.height = height;
+        pixelGrid = null;
         return this;
     }
     /**
@@ -144,6 +190,7 @@ public class Camera {
      */
     public Camera setvRight(Vector vRight) {
         this.vRight = vRight;
+        pixelGrid = null;
         return this;
     }
 
@@ -155,6 +202,7 @@ public class Camera {
      */
     public Camera setVPDistance(double distance) {
         this.distance = distance;
+        pixelGrid = null;
         return this;
     }
 
@@ -190,36 +238,25 @@ public class Camera {
      * @return The constructed Ray object.
      */
     public Ray constructRay(int nX, int nY, int j, int i) {
-        Point Pc = location.add(vTo.scale(distance)); //Image center
-
-        //Ratio (pixel width & height)
-        double Rx = width / nX;
-        double Ry = height / nY;
-
-        Point Pij; //Pixel[i,j] center
-        double Xj = (j - (nX - 1) / 2d) * Rx;
-        double Yi = -(i - (nY - 1) / 2d) * Ry;
+        return pixelGrid(nX, nY).constructRay(j, i);
+    }
 
-        // Pixel[i,j] is the center
-        if (isZero(Xj) && isZero(Yi)) {
-            Pij = Pc;
-            return new Ray(location, Pij.subtract(location));
-        }
-        // Pixel[i,j] is in the middle column
-        if (isZero(Xj)) {
-            Pij = Pc.add(vUp.scale(Yi));
-            return new Ray(location, Pij.subtract(location));
-        }
-        //Pixel[i,j] is in the middle row
-        if (isZero(Yi)) {
-            Pij = Pc.add(vRight.scale(Xj));
-            return new Ray(location, Pij.subtract(location));
+    /**
+     * Returns the primary rays of a resolution, calculated once while the view plane does not change
+     *
+     * @param nX The total number of pixels in the X direction.
+     * @param nY The total number of pixels in the Y direction.
+     * @return The pixel grid of the resolution.
+     */
+    private PixelGrid pixelGrid(int nX, int nY) {
+        PixelGrid grid = pixelGrid;
+        if (grid == null || !grid.hasResolution(nX, nY)) {
+            grid = new PixelGrid(location, vTo, vUp, vRight, width, height, distance, nX, nY);
+            pixelGrid = grid;
         }
-
-        Pij = Pc.add(vRight.scale(Xj).add(vUp.scale(Yi)));
-        return new Ray(location, Pij.subtract(location));
-
+        return grid;
     }
+
     /**
      * Sets whether anti_aliasing is enabled for the camera.
      * Anti_aliasing smooths out the edges of rendered objects,
@@ -233,6 +270,148 @@ public class Camera {
         return this;
     }
 
+    /**
+     * Sets the sampler placing the anti-aliasing rays in the pixels.
+     * The default is a jittered grid with a fixed seed.
+     *
+     * @param sampler the sampler
+     * @return The current Camera object.
+     */
+    public Camera setSampler(Sampler sampler) {
+        this.sampler = sampler;
+        return this;
+    }
+
+    /**
+     * Sets the amount of anti-aliasing rays in a pixel, as a grid of rows and columns
+     * for the samplers which stratify the pixel. The default is 8 x 8.
+     *
+     * @param rows    the amount of sample rows
+     * @param columns the amount of sample columns
+     * @return The current Camera object.
+     * @throws IllegalArgumentException if rows or columns is not positive
+     */
+    public Camera setSamplesPerPixel(int rows, int columns) {
+        if (rows < 1 || columns < 1)
+            throw new IllegalArgumentException("The amount of samples per pixel must be positive");
+        _N = rows;
+        _M = columns;
+        return this;
+    }
+
+    /**
+     * Sets an adaptive amount of anti-aliasing rays per pixel instead of the fixed grid.
+     * The rays are traced in batches of minSamples until the 95% confidence interval of
+     * the pixel color is within the tolerance in each channel, or maxSamples rays are traced,
+     * so flat regions cost few rays and edges get the budget.
+     *
+     * @param minSamples the amount of rays of a batch, the least amount of rays of a pixel
+     * @param maxSamples the maximal amount of rays of a pixel
+     * @param tolerance  the accepted error of the pixel color, in 8 bit channel units
+     * @return The current Camera object.
+     * @throws IllegalArgumentException if minSamples is not positive, maxSamples is lower than minSamples
+     *                                  or tolerance is negative
+     */
+    public Camera setAdaptiveSampleCount(int minSamples, int maxSamples, double tolerance) {
+        if (minSamples < 1)
+            throw new IllegalArgumentException("The least amount of samples must be positive");
+        if (maxSamples < minSamples)
+            throw new IllegalArgumentException("The maximal amount of samples must not be lower than the least amount");
+        if (tolerance < 0)
+            throw new IllegalArgumentException("The tolerance must not be negative");
+        this.minSamples = minSamples;
+        this.maxSamples = maxSamples;
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    /**
+     * Sets whether anti-aliasing is limited to the pixels on discontinuities. A pre-pass traces
+     * one ray per pixel and records the geometry, the normal and the color seen, and only the
+     * pixels whose neighbours differ beyond the edge thresholds are anti-aliased.
+     * Applies to {@link #renderImageMultiThreading()}.
+     *
+     * @param edgeDetection {@code true} to anti-alias only the edge pixels
+     * @return The current Camera object.
+     */
+    public Camera setEdgeDetection(boolean edgeDetection) {
+        this.edgeDetection = edgeDetection;
+        return this;
+    }
+
+    /**
+     * Sets the thresholds of the edge detection pre-pass. The defaults are 8 and 20&#176;.
+     *
+     * @param colorThreshold the largest difference of an 8 bit channel between neighbours which is not an edge
+     * @param angle          the largest angle in degrees between neighbour normals which is not an edge
+     * @return The current Camera object.
+     * @throws IllegalArgumentException if a threshold is negative
+     */
+    public Camera setEdgeThresholds(int colorThreshold, double angle) {
+        if (colorThreshold < 0 || angle < 0)
+            throw new IllegalArgumentException("Edge thresholds must not be negative");
+        this.edgeColorThreshold = colorThreshold;
+        this.edgeAngle = angle;
+        return this;
+    }
+
+    /**
+     * Sets the amount of threads used by the multi-threaded rendering.
+     *
+     * @param threads the amount of threads, 1 to render in the calling thread
+     * @return The current Camera object.
+     * @throws IllegalArgumentException if threads is not positive
+     */
+    public Camera setMultithreading(int threads) {
+        if (threads < 1)
+            throw new IllegalArgumentException("Multithreading must have at least one thread");
+        this.threadsCount = threads;
+        return this;
+    }
+
+    /**
+     * Sets the size of the square image tiles handed to the rendering threads.
+     * Smaller tiles balance the load better, larger tiles cost less scheduling.
+     *
+     * @param tileSize the tile edge length in pixels
+     * @return The current Camera object.
+     * @throws IllegalArgumentException if tileSize is not positive
+     */
+    public Camera setTileSize(int tileSize) {
+        if (tileSize < 1)
+            throw new IllegalArgumentException("Tile size must be positive");
+        this.tileSize = tileSize;
+        return this;
+    }
+
+    /**
+     * Sets an executor for the multi-threaded rendering. Each image tile is submitted to
+     * the executor as a separate task, and at most {@link #setMultithreading(int) threadsCount}
+     * tiles run at once. The executor is not shut down by the camera.
+     *
+     * @param executor the executor running the tiles, null to use the built-in fork/join pool
+     * @return The current Camera object.
+     */
+    public Camera setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets whether the multi-threaded rendering runs each image tile on a new virtual thread.
+     * At most {@link #setMultithreading(int) threadsCount} tiles run at once.
+     * Virtual threads require Java 21 or later, rendering fails with
+     * UnsupportedOperationException otherwise. An executor set by
+     * {@link #setExecutor(Executor)} takes precedence.
+     *
+     * @param virtualThreads {@code true} to render on virtual threads, {@code false} otherwise.
+     * @return The current Camera object.
+     */
+    public Camera setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
     /**
      * Renders the image using the configured ImageWriter and RayTracer.
      * Throws a MissingResourceException if any of the required fields (ImageWriter, RayTracer, width, height, distance) are missing or have invalid values.
@@ -249,11 +428,14 @@ public class Camera {
             }
             int nX = imageWriter.getNx();
             int nY = imageWriter.getNy();
+            PixelGrid grid = pixelGrid(nX, nY);
+            prepareOrigin();
 
             for (int row = 0; row < nY; row++) {
+                Ray[] rays = grid.constructRow(row, 0, nX);
                 for (int col = 0; col < nX; col++) {
-                    Color color = castRay(nX, nY, row, col);
-                    this.imageWriter.writePixel(row, col, color);
+                    Color color = castRay(nX, nY, rays[col], col, row);
+                    this.imageWriter.writePixel(col, row, color);
                 }
             }
 
@@ -266,19 +448,21 @@ public class Camera {
     /**
      * Casts a ray from the specified pixel coordinates and retrieves the color at the intersection point.
      *
-     * @param nX the number of pixels in the X direction (horizontal resolution)
-     * @param nY the number of pixels in the Y direction (vertical resolution)
-     * @param j  the pixel's column index
-     * @param i  the pixel's row index
+     * @param nX  the number of pixels in the X direction (horizontal resolution)
+     * @param nY  the number of pixels in the Y direction (vertical resolution)
+     * @param ray the ray through the pixel center
+     * @param j   the pixel's column index
+     * @param i   the pixel's row index
      * @return the color at the intersection point of the ray cast from the specified pixel coordinates
      */
-    private Color castRay(int nX, int nY, int j, int i) {
-        Ray ray = this.constructRay(nX, nY, j, i);
+    private Color castRay(int nX, int nY, Ray ray, int j, int i) {
+        if (isAntiAliasing && minSamples > 0)
+            return castAdaptiveRays(nX, nY, ray, j, i);
         if (isAntiAliasing) {
             if (_N == 0 || _M == 0)
                 throw new MissingResourceException("You need to set the n*m value for the rays launching", RayTracerBasic.class.getName(), "");
 
-            List<Ray> rays = constructRaysGridFromRay(nX, nY, _N, _M, ray);
+            List<Ray> rays = constructRaysGridFromRay(nX, nY, _N, _M, ray, j, i);
             Color sum = Color.BLACK;
             for (Ray rayy : rays) {
                 sum = sum.add(rayTracer.traceRay(rayy));
@@ -289,6 +473,84 @@ public class Camera {
     }
 
 
+    /**
+     * Casts anti-aliasing rays in a pixel in batches, until the pixel color converges.
+     * The sampler places the maximal amount of rays in the pixel, and the batches take them
+     * in a stride order, so every batch is spread over the whole pixel.
+     *
+     * @param nX  the number of pixels in the X direction
+     * @param nY  the number of pixels in the Y direction
+     * @param ray the ray through the pixel center
+     * @param j   the pixel's column index
+     * @param i   the pixel's row index
+     * @return the average color of the traced rays
+     */
+    private Color castAdaptiveRays(int nX, int nY, Ray ray, int j, int i) {
+        Point pc = ray.getPoint(distance);
+        double pixelHeight = alignZero(height / nY);
+        double pixelWidth = alignZero(width / nX);
+        int rows = (int) Math.ceil(Math.sqrt(maxSamples));
+        int columns = (maxSamples + rows - 1) / rows;
+        int count = rows * columns;
+        double[] samples = new double[2 * count];
+        sampler.samples((long) i * nX + j, rows, columns, samples);
+        int stride = stride(count);
+
+        // running mean and sum of squared deviations of each channel (Welford)
+        double[] mean = new double[3];
+        double[] squares = new double[3];
+        Color sum = Color.BLACK;
+        int n = 0;
+        while (n < maxSamples) {
+            for (int batchEnd = Math.min(maxSamples, n + minSamples); n < batchEnd; ) {
+                int k = (int) ((long) n * stride % count);
+                Color color = rayTracer.traceRay(constructRay(samples[2 * k], samples[2 * k + 1], pixelHeight, pixelWidth, pc));
+                sum = sum.add(color);
+                java.awt.Color rgb = color.getColor();
+                ++n;
+                double[] channels = {rgb.getRed(), rgb.getGreen(), rgb.getBlue()};
+                for (int c = 0; c < 3; ++c) {
+                    double delta = channels[c] - mean[c];
+                    mean[c] += delta / n;
+                    squares[c] += delta * (channels[c] - mean[c]);
+                }
+            }
+            if (isConverged(squares, n)) break;
+        }
+        return sum.reduce(n);
+    }
+
+    /**
+     * Checks whether the 95% confidence interval of the mean color is within the tolerance
+     *
+     * @param squares the sums of squared deviations of the channels
+     * @param n       the amount of samples
+     * @return true if the color converged, false otherwise
+     */
+    private boolean isConverged(double[] squares, int n) {
+        if (n < 2) return false;
+        for (double square : squares)
+            if (1.96 * Math.sqrt(square / (n - 1) / n) > tolerance) return false;
+        return true;
+    }
+
+    /**
+     * Calculates a stride visiting all the samples of a pixel in a spread order,
+     * the nearest number to the golden ratio part of the amount which is coprime to it
+     *
+     * @param count the amount of samples
+     * @return the stride
+     */
+    private static int stride(int count) {
+        int stride = Math.max(1, (int) Math.round(count * 0.6180339887));
+        while (gcd(stride, count) != 1) ++stride;
+        return stride;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
     /**
      * Prints a grid on the image using the specified color and interval.
      * Throws a MissingResourceException if the ImageWriter is uninitialized.
@@ -324,58 +586,52 @@ public class Camera {
     /**
      * Constructs a grid of rays from a given ray, representing a pixel on the camera's view.
      * The grid is defined by the number of rows (nX), number of columns (nY), and the number of rays to launch in each pixel (n, m).
+     * The rays are placed in the pixel by the camera sampler.
      *
      * @param nX      The number of rows in the grid.
      * @param nY      The number of columns in the grid.
      * @param n       The number of rays to launch vertically in each pixel.
      * @param m       The number of rays to launch horizontally in each pixel.
      * @param ray     The original ray representing the center of the pixel.
+     * @param j       The column index of the pixel.
+     * @param i       The row index of the pixel.
      * @return A list of rays representing the constructed grid in the pixel.
      */
-    public List<Ray> constructRaysGridFromRay(int nX, int nY, int n, int m, Ray ray) {
+    public List<Ray> constructRaysGridFromRay(int nX, int nY, int n, int m, Ray ray, int j, int i) {
 
         Point p0 = ray.getPoint(distance); //center of the pixel
-        List<Ray> myRays = new LinkedList<>(); //to save all the rays
+        List<Ray> myRays = new ArrayList<>(n * m); //to save all the rays
 
         double pixelHeight = alignZero(height / nY);
         double pixelHWidth = alignZero(width / nX);
 
-        //We call the function constructRayThroughPixel like we used to but this time we launch m * n ray in the same pixel
-
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < m; j++) {
-                myRays.add(constructRay(m, n, j, i, pixelHeight, pixelHWidth, p0));
-            }
+        //the samples of the pixel depend only on its index, whichever thread renders it
+        double[] samples = new double[2 * n * m];
+        sampler.samples((long) i * nX + j, n, m, samples);
+        for (int k = 0; k < samples.length; k += 2) {
+            myRays.add(constructRay(samples[k], samples[k + 1], pixelHeight, pixelHWidth, p0));
         }
 
         return myRays;
     }
     /**
-     * Constructs a ray based on the given parameters.
+     * Constructs a ray through a sample position in a pixel.
      *
-     * @param m         The number of rays horizontally in the pixel.
-     * @param n         The number of rays vertically in the pixel.
-     * @param j         The horizontal position of the ray within the pixel.
-     * @param i         The vertical position of the ray within the pixel.
+     * @param x         The horizontal position of the sample, in [0, 1) from the left side of the pixel.
+     * @param y         The vertical position of the sample, in [0, 1) from the top side of the pixel.
      * @param pixelH    The height of a pixel.
      * @param pixelW    The width of a pixel.
      * @param pc        The center point of the pixel.
-     * @return A ray representing the constructed ray within the pixel.
+     * @return A ray through the sample.
      */
-    private Ray constructRay(int m, int n, double j, double i, double pixelH, double pixelW, Point pc) {
+    private Ray constructRay(double x, double y, double pixelH, double pixelW, Point pc) {
 
         Point pIJ = pc;
 
-        //Ry = height / nY : height of a pixel
-        double rY = pixelH / n;
-        //Ry = weight / nX : width of a pixel
-        double rX = pixelW / m;
         //xJ is the value of width we need to move from center to get to the point
-        //we get to the bottom/top of the pixel and then we move randomly in the pixel to get the point
-        double xJ = ((j + r.nextDouble() / (r.nextBoolean() ? 2 : -2)) - ((m - 1) / 2d)) * rX;
+        double xJ = (x - 0.5) * pixelW;
         //yI is the value of height we need to move from center to get to the point
-        //we get to the side of the pixel and then we move randomly in the pixel to get the point
-        double yI = -((i + r.nextDouble() / (r.nextBoolean() ? 2 : -2)) - ((n - 1) / 2d)) * rY;
+        double yI = -(y - 0.5) * pixelH;
 
         if (xJ != 0) {
             pIJ = pIJ.add(vRight.scale(xJ));
@@ -392,65 +648,194 @@ public class Camera {
 
     }
     /**
-     * Casts a ray of beams using adaptive super sampling
-     * @param j col
-     * @param i row
-     * @return average colour of pixel
+     * Calculates the color of a square of the sample lattice using adaptive super-sampling.
+     * The colors of the square corners are averaged if they look the same, otherwise
+     * the square is divided into 4 squares which are calculated the same way.
+     * The corners are taken from the tile cache, so each lattice point is traced once.
+     *
+     * @param cache    The samples of the tile.
+     * @param x        The lattice column of the square top left corner.
+     * @param y        The lattice row of the square top left corner.
+     * @param size     The edge of the square in lattice steps.
+     * @param maxLevel The maximum level of recursion for super-sampling.
+     * @return The calculated color using adaptive super-sampling.
+     */
+    private Color calcAdaptiveSuperSampling(SampleCache cache, int x, int y, int size, int maxLevel) {
+        Color topLeft = cache.get(x, y);
+        Color topRight = cache.get(x + size, y);
+        Color bottomLeft = cache.get(x, y + size);
+        Color bottomRight = cache.get(x + size, y + size);
+        if (maxLevel <= 0 || (looksSame(topLeft, topRight) && looksSame(topLeft, bottomLeft)
+                && looksSame(topLeft, bottomRight)))
+            return topLeft.add(topRight, bottomLeft, bottomRight).reduce(4);
+
+        // divide the square into 4 mini-squares
+        int half = size / 2;
+        return calcAdaptiveSuperSampling(cache, x, y, half, maxLevel - 1)
+                .add(calcAdaptiveSuperSampling(cache, x + half, y, half, maxLevel - 1),
+                        calcAdaptiveSuperSampling(cache, x, y + half, half, maxLevel - 1),
+                        calcAdaptiveSuperSampling(cache, x + half, y + half, half, maxLevel - 1))
+                .reduce(4);
+    }
+
+    /**
+     * Checks whether two colors are written the same in the image
+     *
+     * @param c1 the first color
+     * @param c2 the second color
+     * @return true if both colors have the same 8 bit channels
      */
+    private static boolean looksSame(Color c1, Color c2) {
+        return c1.getColor().getRGB() == c2.getColor().getRGB();
+    }
 
-    private Color castBeamAdaptiveSuperSampling(int j, int i) {
-        Ray center = constructRay(imageWriter.getNx(), imageWriter.getNy(), j, i);
-        Color centerColor = rayTracer.traceRay(center);
-        return calcAdaptiveSuperSampling(imageWriter.getNx(), imageWriter.getNy(), j, i, maxLevelAdaptiveSS, centerColor);
+    /**
+     * Constructs a ray through a point of the view plane
+     *
+     * @param nX The total number of pixels in the X direction.
+     * @param nY The total number of pixels in the Y direction.
+     * @param x  The distance of the point from the left side of the view plane, in pixels.
+     * @param y  The distance of the point from the top side of the view plane, in pixels.
+     * @return The constructed Ray object.
+     */
+    private Ray constructRayThroughPoint(int nX, int nY, double x, double y) {
+        double xJ = (x - nX / 2d) * width / nX;
+        double yI = -(y - nY / 2d) * height / nY;
+        if (isZero(xJ) && isZero(yI)) return Ray.ofUnit(location, vTo);
+        Point p = location.add(vTo.scale(distance));
+        if (!isZero(xJ)) p = p.add(vRight.scale(xJ));
+        if (!isZero(yI)) p = p.add(vUp.scale(yI));
+        return new Ray(location, p.subtract(location));
     }
+
     /**
-     * Calculates the color using adaptive super-sampling technique for a given pixel.
+     * Renders the image using multithreading. The image is split into tiles
+     * which are rendered by {@link #setMultithreading(int) threadsCount} threads,
+     * or by the tasks of the executor or the virtual threads if set.
+     * With anti-aliasing and edge detection, a pre-pass over all the tiles finds the edge pixels first.
      *
-     * @param nX           The number of rays horizontally in the pixel.
-     * @param nY           The number of rays vertically in the pixel.
-     * @param j            The horizontal position of the pixel.
-     * @param i            The vertical position of the pixel.
-     * @param maxLevel     The maximum level of recursion for super-sampling.
-     * @param centerColor  The color at the center of the pixel.
-     * @return The calculated color using adaptive super-sampling.
+     * @return this using builder pattern
+     * @throws UnsupportedOperationException if the Camera is missing the ImageWriter or the RayTracer
      */
-    private Color calcAdaptiveSuperSampling(int nX, int nY, int j, int i, int maxLevel, Color centerColor) {
-        if (maxLevel <= 0) {
-            return centerColor;
-        }
-        Color color = centerColor;
-        // divide pixel into 4 mini-pixels
-        LinkedList<Ray> beam = (LinkedList<Ray>) Arrays.asList(constructRay(2 * nX, 2 * nY, 2 * j, 2 * i),
-                constructRay(2 * nX, 2 * nY, 2 * j, 2 * i + 1),
-                constructRay(2 * nX, 2 * nY, 2 * j + 1, 2 * i),
-                constructRay(2 * nX, 2 * nY, 2 * j + 1, 2 * i + 1));
-        for (int ray = 0; ray < 4; ray++) {
-            Color currentColor = rayTracer.traceRay(beam.get(ray));
-            if (!currentColor.equals(centerColor))
-                currentColor = calcAdaptiveSuperSampling(2 * nX, 2 * nY,
-                        2 * j + ray / 2, 2 * i + ray % 2, (maxLevel - 1), currentColor);
-            color = color.add(currentColor);
+    public Camera renderImageMultiThreading() {
+        checkRenderResources();
+        int nX = imageWriter.getNx();
+        int nY = imageWriter.getNy();
+        PixelGrid grid = pixelGrid(nX, nY);
+        prepareOrigin();
+        if (isAntiAliasing && edgeDetection) {
+            EdgeDetector edges = findEdges(grid, nX, nY);
+            renderTiles((x0, y0, x1, y1) -> {
+                for (int row = y0; row < y1; row++) {
+                    Ray[] rays = grid.constructRow(row, x0, x1);
+                    for (int col = x0; col < x1; col++)
+                        imageWriter.writePixel(col, row, edges.isEdge(col, row)
+                                ? castRay(nX, nY, rays[col - x0], col, row) : edges.getColor(col, row));
+                }
+            });
+            return this;
         }
-        return color.reduce(5);
+        renderTiles((x0, y0, x1, y1) -> {
+            for (int row = y0; row < y1; row++) {
+                Ray[] rays = grid.constructRow(row, x0, x1);
+                for (int col = x0; col < x1; col++)
+                    imageWriter.writePixel(col, row, castRay(nX, nY, rays[col - x0], col, row));
+            }
+        });
+        return this;
     }
 
     /**
-     * renders image using multithreading and adaptive supersampling
+     * Traces one ray through the center of each pixel and marks the pixels on discontinuities
+     *
+     * @param grid the primary rays of the image
+     * @param nX   the number of pixels in the X direction
+     * @param nY   the number of pixels in the Y direction
+     * @return the pre-pass buffer with the edges marked
+     */
+    private EdgeDetector findEdges(PixelGrid grid, int nX, int nY) {
+        EdgeDetector edges = new EdgeDetector(nX, nY, edgeColorThreshold, Math.cos(Math.toRadians(edgeAngle)));
+        renderTiles((x0, y0, x1, y1) -> {
+            for (int row = y0; row < y1; row++) {
+                Ray[] rays = grid.constructRow(row, x0, x1);
+                for (int col = x0; col < x1; col++) {
+                    Ray ray = rays[col - x0];
+                    GeoPoint closest = rayTracer.findClosestIntersection(ray);
+                    edges.record(col, row, closest == null ? null : closest.geometry,
+                            closest == null ? null : closest.getNormal(),
+                            rayTracer.traceRay(ray, closest));
+                }
+            }
+        });
+        edges.detect();
+        return edges;
+    }
+
+    /**
+     * renders image using multithreading and adaptive supersampling.
+     * The samples are taken at the corners of the pixels and of their sub-squares,
+     * on a lattice of 2<sup>maxLevelAdaptiveSS</sup> steps per pixel, and are shared
+     * by the neighbouring pixels of a tile.
      *
      * @return this using builder pattern
+     * @throws UnsupportedOperationException if the Camera is missing the ImageWriter or the RayTracer
      */
     public Camera renderImageMultiThreading_AdaptSS() {
-        Pixel.initialize(imageWriter.getNx(),imageWriter.getNy(), 60);
-        while (threadsCount-- > 0) {
-            new Thread(() -> {
-                for (Pixel pixel = new Pixel(); pixel.nextPixel(); Pixel.pixelDone())
-                    imageWriter.writePixel(pixel.col, pixel.row, castBeamAdaptiveSuperSampling(pixel.col, pixel.row));
-            }).start();
-        }
-        Pixel.waitToFinish();
+        checkRenderResources();
+        int nX = imageWriter.getNx();
+        int nY = imageWriter.getNy();
+        int steps = 1 << maxLevelAdaptiveSS;
+        prepareOrigin();
+        renderTiles((x0, y0, x1, y1) -> {
+            SampleCache cache = new SampleCache(x0 * steps, y0 * steps, x1 * steps, y1 * steps,
+                    (x, y) -> rayTracer.traceRay(constructRayThroughPoint(nX, nY, (double) x / steps, (double) y / steps)));
+            for (int row = y0; row < y1; row++)
+                for (int col = x0; col < x1; col++)
+                    imageWriter.writePixel(col, row,
+                            calcAdaptiveSuperSampling(cache, col * steps, row * steps, steps, maxLevelAdaptiveSS));
+        });
         return this;
     }
 
+    /**
+     * Renders all the image tiles on the configured executor, on virtual threads,
+     * or on a thread pool owned by this render job, and waits for them to be done
+     *
+     * @param action the tile rendering action
+     */
+    private void renderTiles(TileRenderer.TileAction action) {
+        TileRenderer tiles = new TileRenderer(imageWriter.getNx(), imageWriter.getNy(), tileSize, threadsCount);
+        if (executor != null) {
+            tiles.render(action, executor);
+        } else if (virtualThreads) {
+            ExecutorService virtualExecutor = TileRenderer.newVirtualThreadExecutor();
+            try {
+                tiles.render(action, virtualExecutor);
+            } finally {
+                virtualExecutor.shutdown();
+            }
+        } else {
+            tiles.render(action);
+        }
+    }
 
+    /**
+     * Lets the ray tracer precompute the intersection terms shared by all the primary rays,
+     * which leave the camera location
+     */
+    private void prepareOrigin() {
+        rayTracer.prepareOrigin(location);
+    }
 
+    /**
+     * Checks that the resources required for rendering are set
+     *
+     * @throws UnsupportedOperationException if the ImageWriter or the RayTracer is missing
+     */
+    private void checkRenderResources() {
+        if (imageWriter == null)
+            throw new UnsupportedOperationException("Not yet initialized" + ImageWriter.class.getName());
+        if (rayTracer == null)
+            throw new UnsupportedOperationException("Not yet initialized" + RayTracerBase.class.getName());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package renderer;
+
+import geometries.Geometry;
+import primitives.Color;
+import primitives.Vector;
+
+/**
+ * EdgeDetector keeps the result of a pre-pass tracing one ray through the center
+ * of each pixel - the geometry seen, its normal and the color - and marks the pixels
+ * on discontinuities, whose neighbours see another geometry, a normal turned beyond
+ * a threshold angle or a color differing beyond a threshold.<br/>
+ * The pre-pass threads record distinct pixels, so no synchronization is needed;
+ * the edges are detected after all the pixels are recorded.
+ */
+class EdgeDetector {
+    private final int nX;
+    private final int nY;
+    private final int colorThreshold;
+    private final double minNormalDot;
+    private final Geometry[] geometries;
+    private final Vector[] normals;
+    private final Color[] colors;
+    private final boolean[] edges;
+
+    /**
+     * Constructs an empty pre-pass buffer
+     *
+     * @param nX             the amount of pixel columns
+     * @param nY             the amount of pixel rows
+     * @param colorThreshold the largest difference of an 8 bit channel between neighbours which is not an edge
+     * @param minNormalDot   the cosine of the largest angle between neighbour normals which is not an edge
+     */
+    EdgeDetector(int nX, int nY, int colorThreshold, double minNormalDot) {
+        this.nX = nX;
+        this.nY = nY;
+        this.colorThreshold = colorThreshold;
+        this.minNormalDot = minNormalDot;
+        geometries = new Geometry[nX * nY];
+        normals = new Vector[nX * nY];
+        colors = new Color[nX * nY];
+        edges = new boolean[nX * nY];
+    }
+
+    /**
+     * Records the pre-pass sample of a pixel
+     *
+     * @param x        the pixel column
+     * @param y        the pixel row
+     * @param geometry the geometry seen through the pixel center, null for the background
+     * @param normal   the normal of the geometry, null for the background
+     * @param color    the color seen through the pixel center
+     */
+    void record(int x, int y, Geometry geometry, Vector normal, Color color) {
+        int index = y * nX + x;
+        geometries[index] = geometry;
+        normals[index] = normal;
+        colors[index] = color;
+    }
+
+    /**
+     * Marks the edge pixels, once all the pixels are recorded
+     *
+     * @return the amount of edge pixels
+     */
+    int detect() {
+        int count = 0;
+        for (int y = 0; y < nY; ++y) {
+            for (int x = 0; x < nX; ++x) {
+                int index = y * nX + x;
+                // each pair of neighbours is compared once, from its left or upper pixel
+                if (x + 1 < nX && differ(index, index + 1)) edges[index] = edges[index + 1] = true;
+                if (y + 1 < nY && differ(index, index + nX)) edges[index] = edges[index + nX] = true;
+            }
+        }
+        for (boolean edge : edges)
+            if (edge) ++count;
+        return count;
+    }
+
+    /**
+     * @param x the pixel column
+     * @param y the pixel row
+     * @return true if the pixel is on a discontinuity
+     */
+    boolean isEdge(int x, int y) {
+        return edges[y * nX + x];
+    }
+
+    /**
+     * @param x the pixel column
+     * @param y the pixel row
+     * @return the color recorded by the pre-pass
+     */
+    Color getColor(int x, int y) {
+        return colors[y * nX + x];
+    }
+
+    /**
+     * Checks whether two pixels see a discontinuity between them
+     */
+    private boolean differ(int a, int b) {
+        if (geometries[a] != geometries[b]) return true;
+        if (normals[a] != null && normals[a].dotProdouct(normals[b]) < minNormalDot) return true;
+        java.awt.Color c1 = colors[a].getColor(), c2 = colors[b].getColor();
+        return Math.abs(c1.getRed() - c2.getRed()) > colorThreshold
+                || Math.abs(c1.getGreen() - c2.getGreen()) > colorThreshold
+                || Math.abs(c1.getBlue() - c2.getBlue()) > colorThreshold;
+    }
+}
@@ -0,0 +1,53 @@
+package renderer;
+
+import java.util.SplittableRandom;
+
+/**
+ * Sampler taking the points of the Halton sequence in bases 2 and 3.
+ * Each pixel shifts the points by its own random offset, wrapping around the pixel
+ * (Cranley-Patterson rotation), so neighbouring pixels do not repeat the same pattern.
+ */
+public class HaltonSampler implements Sampler {
+    private final long seed;
+
+    /**
+     * Constructs a Halton sampler
+     *
+     * @param seed the seed of the pixel offsets
+     */
+    public HaltonSampler(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public void samples(long pixel, int n, int m, double[] samples) {
+        SplittableRandom random = new SplittableRandom(Sampler.pixelSeed(seed, pixel));
+        double shiftX = random.nextDouble();
+        double shiftY = random.nextDouble();
+        for (int k = 0; k < n * m; ++k) {
+            samples[2 * k] = wrap(radicalInverse(k, 2) + shiftX);
+            samples[2 * k + 1] = wrap(radicalInverse(k, 3) + shiftY);
+        }
+    }
+
+    /**
+     * Mirrors the digits of a number around the radix point
+     *
+     * @param index the number
+     * @param base  the base of the digits
+     * @return the radical inverse of the number, in [0, 1)
+     */
+    static double radicalInverse(int index, int base) {
+        double result = 0;
+        double digitValue = 1d / base;
+        for (int i = index; i > 0; i /= base) {
+            result += (i % base) * digitValue;
+            digitValue /= base;
+        }
+        return result;
+    }
+
+    private static double wrap(double value) {
+        return value >= 1 ? value - 1 : value;
+    }
+}
@@ -0,0 +1,97 @@
+package renderer;
+
+/**
+ * Sampler placing the samples in a correlated multi-jittered pattern (Kensler, 2013).
+ * The pixel is divided into n rows and m columns with one sample in each cell, and at the same
+ * time each sample falls in its own one of the n * m narrow columns and narrow rows,
+ * so the samples are well spread in 2D and in each axis alone.
+ * The permutations and the jitter are hashed from the pixel seed, no random generator is kept.
+ */
+public class MultiJitteredSampler implements Sampler {
+    private final long seed;
+
+    /**
+     * Constructs a correlated multi-jittered sampler
+     *
+     * @param seed the seed of the pixel patterns
+     */
+    public MultiJitteredSampler(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public void samples(long pixel, int n, int m, double[] samples) {
+        int pattern = (int) Sampler.pixelSeed(seed, pixel);
+        for (int s = 0; s < n * m; ++s) {
+            int column = s % m, row = s / m;
+            // the same permutation is applied to all the cells of a row (of a column),
+            // which keeps the narrow strata of each axis covered once
+            int sx = permute(column, m, pattern * 0xa511e9b3);
+            int sy = permute(row, n, pattern * 0x63d83595);
+            double jx = hash(s, pattern * 0xa399d265);
+            double jy = hash(s, pattern * 0x711ad6a5);
+            samples[2 * s] = (column + (sy + jx) / n) / m;
+            samples[2 * s + 1] = (row + (sx + jy) / m) / n;
+        }
+    }
+
+    /**
+     * Permutes an index by a hash which is a bijection on the powers of 2 (cycle walking
+     * skips the values out of range)
+     *
+     * @param i       the index to permute
+     * @param length  the amount of indices
+     * @param pattern the permutation pattern
+     * @return the permuted index, in [0, length)
+     */
+    static int permute(int i, int length, int pattern) {
+        int w = length - 1;
+        w |= w >>> 1;
+        w |= w >>> 2;
+        w |= w >>> 4;
+        w |= w >>> 8;
+        w |= w >>> 16;
+        do {
+            i ^= pattern;
+            i *= 0xe170893d;
+            i ^= pattern >>> 16;
+            i ^= (i & w) >>> 4;
+            i ^= pattern >>> 8;
+            i *= 0x0929eb3f;
+            i ^= pattern >>> 23;
+            i ^= (i & w) >>> 1;
+            i *= 1 | pattern >>> 27;
+            i *= 0x6935fa69;
+            i ^= (i & w) >>> 11;
+            i *= 0x74dcb303;
+            i ^= (i & w) >>> 2;
+            i *= 0x9e501cc3;
+            i ^= (i & w) >>> 2;
+            i *= 0xc860a3df;
+            i &= w;
+            i ^= i >>> 5;
+        } while (i >= length);
+        return Integer.remainderUnsigned(i + pattern, length);
+    }
+
+    /**
+     * Hashes an index into a jitter value
+     *
+     * @param i       the index
+     * @param pattern the hash pattern
+     * @return the jitter, in [0, 1)
+     */
+    static double hash(int i, int pattern) {
+        i ^= pattern;
+        i ^= i >>> 17;
+        i ^= i >>> 10;
+        i *= 0xb36534e5;
+        i ^= i >>> 12;
+        i ^= i >>> 21;
+        i *= 0x93fc4795;
+        i ^= 0xdf6e307f;
+        i ^= i >>> 17;
+        i *= 1 | pattern >>> 18;
+        return (i & 0xFFFFFFFFL) / 4294967296d;
+    }
+}
@@ -0,0 +1,111 @@
+package renderer;
+
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+
+/**
+ * PixelGrid constructs the primary rays of a camera through the pixel centers of an image.
+ * The direction to the center of the first pixel and the steps between neighbour columns
+ * and rows are calculated once per resolution, and the rays of a row are generated
+ * from the column step in primitive doubles.<br/>
+ * The direction of a pixel is calculated directly from its indices, without accumulating
+ * the steps, so a pixel costs the same whichever its column is and gets the same ray
+ * whichever tile or row segment it is generated in.
+ * A grid is immutable and may be shared by the rendering threads.
+ */
+final class PixelGrid {
+    private final Point location;
+    private final int nX;
+    private final int nY;
+    /**
+     * Direction from the camera location to the center of the pixel (0, 0)
+     */
+    private final double x0, y0, z0;
+    /**
+     * Step of the direction between neighbour columns
+     */
+    private final double columnX, columnY, columnZ;
+    /**
+     * Step of the direction between neighbour rows
+     */
+    private final double rowX, rowY, rowZ;
+
+    /**
+     * Constructs the grid of a view plane
+     *
+     * @param location the camera location
+     * @param vTo      the normalized direction towards the view plane center
+     * @param vUp      the normalized up direction of the view plane
+     * @param vRight   the normalized right direction of the view plane
+     * @param width    the view plane width
+     * @param height   the view plane height
+     * @param distance the distance of the view plane from the camera
+     * @param nX       the number of pixels in the X direction
+     * @param nY       the number of pixels in the Y direction
+     */
+    PixelGrid(Point location, Vector vTo, Vector vUp, Vector vRight,
+              double width, double height, double distance, int nX, int nY) {
+        this.location = location;
+        this.nX = nX;
+        this.nY = nY;
+        double rX = width / nX;
+        double rY = height / nY;
+        // offsets of the pixel (0, 0) center from the view plane center
+        double left = -(nX - 1) / 2d * rX;
+        double top = (nY - 1) / 2d * rY;
+        x0 = vTo.getX() * distance + vRight.getX() * left + vUp.getX() * top;
+        y0 = vTo.getY() * distance + vRight.getY() * left + vUp.getY() * top;
+        z0 = vTo.getZ() * distance + vRight.getZ() * left + vUp.getZ() * top;
+        columnX = vRight.getX() * rX;
+        columnY = vRight.getY() * rX;
+        columnZ = vRight.getZ() * rX;
+        rowX = -vUp.getX() * rY;
+        rowY = -vUp.getY() * rY;
+        rowZ = -vUp.getZ() * rY;
+    }
+
+    /**
+     * Checks whether the grid is made for an image resolution
+     *
+     * @param nX the number of pixels in the X direction
+     * @param nY the number of pixels in the Y direction
+     * @return true if the grid has the same resolution
+     */
+    boolean hasResolution(int nX, int nY) {
+        return this.nX == nX && this.nY == nY;
+    }
+
+    /**
+     * Constructs the rays through the centers of a segment of a pixel row
+     *
+     * @param i    the row index
+     * @param from the first column of the segment
+     * @param to   the column after the segment
+     * @return the rays of the columns from, ..., to - 1
+     */
+    Ray[] constructRow(int i, int from, int to) {
+        double x = x0 + rowX * i;
+        double y = y0 + rowY * i;
+        double z = z0 + rowZ * i;
+        Ray[] rays = new Ray[to - from];
+        for (int k = 0; k < rays.length; ++k) {
+            int j = from + k;
+            double dx = x + columnX * j, dy = y + columnY * j, dz = z + columnZ * j;
+            double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            rays[k] = Ray.ofUnit(location, new Vector(dx / length, dy / length, dz / length));
+        }
+        return rays;
+    }
+
+    /**
+     * Constructs the ray through the center of a pixel
+     *
+     * @param j the column index
+     * @param i the row index
+     * @return the ray
+     */
+    Ray constructRay(int j, int i) {
+        return constructRow(i, j, j + 1)[0];
+    }
+}
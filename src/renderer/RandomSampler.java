@@ -0,0 +1,26 @@
+package renderer;
+
+import java.util.SplittableRandom;
+
+/**
+ * Sampler placing the samples uniformly at random in the pixel
+ */
+public class RandomSampler implements Sampler {
+    private final long seed;
+
+    /**
+     * Constructs a random sampler
+     *
+     * @param seed the seed of the random samples
+     */
+    public RandomSampler(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public void samples(long pixel, int n, int m, double[] samples) {
+        SplittableRandom random = new SplittableRandom(Sampler.pixelSeed(seed, pixel));
+        for (int k = 0; k < 2 * n * m; ++k)
+            samples[k] = random.nextDouble();
+    }
+}
@@ -1,6 +1,8 @@
 package renderer;
 
+import geometries.Intersectable.GeoPoint;
 import primitives.Color;
+import primitives.Point;
 import primitives.Ray;
 import scene.Scene;
 
@@ -23,4 +25,35 @@ public abstract class RayTracerBase {
      * @return the co;or of the object the ray 'sees' first
      */
     public abstract Color traceRay(Ray ray);
+
+    /**
+     * tracing a ray whose closest intersection with the scene was already found,
+     * so it is not searched again. By default the intersection is searched again.
+     *
+     * @param ray     the ray to trace the scene with
+     * @param closest the closest intersection of the ray, or null if the ray misses the scene
+     * @return the color of the object the ray 'sees' first
+     */
+    public Color traceRay(Ray ray, GeoPoint closest) {
+        return traceRay(ray);
+    }
+
+    /**
+     * Find the closest intersection point with a ray.
+     *
+     * @param ray The ray to checks intersections with.
+     * @return The closest intersection point with the ray, or null if the ray misses the scene.
+     */
+    public GeoPoint findClosestIntersection(Ray ray) {
+        return scene.geometries.findClosestGeoIntersection(ray);
+    }
+
+    /**
+     * Prepares the scene geometries for the coming rays leaving a point, e.g. the camera location.
+     *
+     * @param origin the head shared by the coming rays
+     */
+    public void prepareOrigin(Point origin) {
+        scene.geometries.prepareOrigin(origin);
+    }
 }
\ No newline at end of file
@@ -7,8 +7,6 @@ import lighting.LightSource;
 import primitives.*;
 import scene.Scene;
 
-import java.util.List;
-
 import static java.lang.Math.sqrt;
 import static primitives.Util.alignZero;
 
@@ -39,8 +37,12 @@ public class RayTracerBasic extends RayTracerBase {
      */
     @Override
     public Color traceRay(Ray ray) {
-        GeoPoint closestPoint = findClosestIntersection(ray);
-        return closestPoint == null ? scene.background : calcColor(closestPoint, ray);
+        return traceRay(ray, findClosestIntersection(ray));
+    }
+
+    @Override
+    public Color traceRay(Ray ray, GeoPoint closest) {
+        return closest == null ? scene.background : calcColor(closest, ray);
     }
 
     /**
@@ -85,7 +87,7 @@ public class RayTracerBasic extends RayTracerBase {
     private Color calcLocalEffects(GeoPoint geoPoint, Ray ray,Double3 k) {
         Color color = geoPoint.geometry.getEmission();
         Vector v = ray.getDir();
-        Vector n = geoPoint.geometry.getNormal(geoPoint.point);
+        Vector n = geoPoint.getNormal();
         double vn = alignZero(v.dotProdouct(n));
 
         // This is a check to see if the ray is hitting the geometry from the inside.
@@ -143,8 +145,12 @@ public class RayTracerBasic extends RayTracerBase {
      */
 
     private Double3 calcSpecular(Material material, Vector n, Vector l, double nl, Vector v) {
-        Vector r = l.add(n.scale(-2 * nl)); // nl must be not zero!
-        double minusVR = -alignZero(r.dotProdouct(v));
+        // r = l - 2 * nl * n, kept in coordinates to spare the vector allocations
+        double scale = -2 * nl; // nl must be not zero!
+        double rx = l.getX() + n.getX() * scale;
+        double ry = l.getY() + n.getY() * scale;
+        double rz = l.getZ() + n.getZ() * scale;
+        double minusVR = -alignZero(v.getX() * rx + v.getY() * ry + v.getZ() * rz);
         if (minusVR <= 0)
             return Double3.ZERO; // view from direction opposite to r vector
         return material.getKs().scale(Math.pow(minusVR, material.nShines));
@@ -166,16 +172,8 @@ public class RayTracerBasic extends RayTracerBase {
      */
     private  Double3 transparency(GeoPoint geoPoint, LightSource ls, Vector l, Vector n){
         Ray lightRay = new Ray(geoPoint.point, l.scale(-1),n);
-        List<GeoPoint> intersections = scene.geometries.findGeoIntersections(lightRay);
-        Double3 ktr = Double3.ONE;
-        if (intersections==null) return ktr;
-        double lightDistance = ls.getDistance(geoPoint.point);
-        for(var intersection :intersections){
-            if(alignZero(intersection.point.distance(geoPoint.point) - lightDistance) <= 0)
-                ktr = ktr.product(intersection.geometry.getMaterial().Kt);
-            if (ktr.lowerThan(MIN_CALC_COLOR_K)) return Double3.ZERO;
-        }
-        return ktr;
+        double lightDistance = ls.getDistance(lightRay.getP0());
+        return scene.geometries.findTransparency(lightRay, lightDistance, MIN_CALC_COLOR_K);
     }
     /**
 
@@ -201,16 +199,6 @@ public class RayTracerBasic extends RayTracerBase {
         return new Ray(geoPoint.point,l,n);
     }
 
-    /**
-     * Find the closest intersection point with a ray.
-     *
-     * @param ray The ray to checks intersections with.
-     * @return The closest intersection point with the ray.
-     */
-    private GeoPoint findClosestIntersection(Ray ray) {
-        var intersections = scene.geometries.findGeoIntersections(ray);
-        return intersections == null ? null : ray.findClosestGeoPoint(intersections);
-    }
     /**
 
      Calculates the global effects (reflection and refraction colors) at a given geometric point based on the specified ray, recursion level, and additional parameters.
@@ -222,7 +210,7 @@ public class RayTracerBasic extends RayTracerBase {
      */
     private Color calcGlobalEffects(GeoPoint geoPoint,Ray ray, int level, Double3 k) {
         Vector v = ray.getDir();
-        Vector n = geoPoint.geometry.getNormal(geoPoint.point);
+        Vector n = geoPoint.getNormal();
         Material material = geoPoint.geometry.getMaterial();
         Ray reflectedRay = Calculation_reflection(geoPoint, v, n);
         Ray refractedRay = Calculation_refraction(geoPoint, v, n);
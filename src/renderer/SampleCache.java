@@ -0,0 +1,66 @@
+package renderer;
+
+import primitives.Color;
+
+/**
+ * SampleCache keeps the colors traced at the points of a regular lattice over an image tile,
+ * so a sample shared by neighbouring pixels or by several levels of subdivision
+ * is traced only once.<br/>
+ * A cache belongs to a single tile rendered by a single thread, it is not thread safe.
+ */
+class SampleCache {
+    /**
+     * Traces the color seen through a lattice point
+     */
+    @FunctionalInterface
+    interface SampleTracer {
+        /**
+         * Traces a sample
+         *
+         * @param x the column of the lattice point
+         * @param y the row of the lattice point
+         * @return the color of the sample
+         */
+        Color trace(int x, int y);
+    }
+
+    private final int x0;
+    private final int y0;
+    private final int columns;
+    private final Color[] colors;
+    private final SampleTracer tracer;
+
+    /**
+     * Constructs an empty cache over a rectangle of the lattice, borders included
+     *
+     * @param x0     the first lattice column
+     * @param y0     the first lattice row
+     * @param x1     the last lattice column
+     * @param y1     the last lattice row
+     * @param tracer the tracer of the samples missing in the cache
+     */
+    SampleCache(int x0, int y0, int x1, int y1, SampleTracer tracer) {
+        this.x0 = x0;
+        this.y0 = y0;
+        this.columns = x1 - x0 + 1;
+        this.colors = new Color[columns * (y1 - y0 + 1)];
+        this.tracer = tracer;
+    }
+
+    /**
+     * Returns the color of a lattice point, tracing it on the first request
+     *
+     * @param x the column of the lattice point
+     * @param y the row of the lattice point
+     * @return the color of the sample
+     */
+    Color get(int x, int y) {
+        int index = (y - y0) * columns + x - x0;
+        Color color = colors[index];
+        if (color == null) {
+            color = tracer.trace(x, y);
+            colors[index] = color;
+        }
+        return color;
+    }
+}
@@ -0,0 +1,34 @@
+package renderer;
+
+/**
+ * Sampler generates the positions of the anti-aliasing rays inside a pixel.<br/>
+ * The samples of a pixel depend only on the sampler seed and on the pixel index,
+ * so an image is rendered the same no matter how many threads render it and in which order.
+ * Samplers keep no state between calls and may be shared by the rendering threads.
+ */
+public interface Sampler {
+    /**
+     * Generates the samples of a pixel
+     *
+     * @param pixel   the index of the pixel in the image
+     * @param n       the amount of sample rows
+     * @param m       the amount of sample columns
+     * @param samples receives the n * m samples, x and y of each sample in turn,
+     *                in [0, 1) from the left and the top side of the pixel
+     */
+    void samples(long pixel, int n, int m, double[] samples);
+
+    /**
+     * Mixes a seed with a pixel index into a well distributed seed of that pixel (SplitMix64 finalizer)
+     *
+     * @param seed  the sampler seed
+     * @param pixel the index of the pixel
+     * @return the seed of the pixel
+     */
+    static long pixelSeed(long seed, long pixel) {
+        long z = seed + (pixel + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
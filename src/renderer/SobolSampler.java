@@ -0,0 +1,51 @@
+package renderer;
+
+import java.util.SplittableRandom;
+
+/**
+ * Sampler taking the points of the first two dimensions of the Sobol sequence.
+ * Each pixel flips the bits of the points by its own random mask (random digital shift),
+ * which keeps the stratification of the sequence in every power of 2 amount of samples.
+ */
+public class SobolSampler implements Sampler {
+    /**
+     * 2<sup>-32</sup>, the value of the lowest bit of a 32 bits fraction
+     */
+    private static final double UNIT = 1d / (1L << 32);
+    private final long seed;
+
+    /**
+     * Constructs a Sobol sampler
+     *
+     * @param seed the seed of the pixel bit masks
+     */
+    public SobolSampler(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public void samples(long pixel, int n, int m, double[] samples) {
+        SplittableRandom random = new SplittableRandom(Sampler.pixelSeed(seed, pixel));
+        int maskX = random.nextInt();
+        int maskY = random.nextInt();
+        for (int k = 0; k < n * m; ++k) {
+            samples[2 * k] = ((Integer.reverse(k) ^ maskX) & 0xFFFFFFFFL) * UNIT;
+            samples[2 * k + 1] = ((secondDimension(k) ^ maskY) & 0xFFFFFFFFL) * UNIT;
+        }
+    }
+
+    /**
+     * Calculates the second dimension of a Sobol point, as a 32 bits fraction.
+     * Its direction numbers follow the primitive polynomial x + 1:
+     * each one is the previous one XOR-ed with itself shifted by one bit.
+     *
+     * @param index the index of the point
+     * @return the bits of the coordinate
+     */
+    static int secondDimension(int index) {
+        int result = 0;
+        for (int direction = 1 << 31; index != 0; index >>>= 1, direction ^= direction >>> 1)
+            if ((index & 1) != 0) result ^= direction;
+        return result;
+    }
+}
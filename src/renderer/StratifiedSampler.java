@@ -0,0 +1,32 @@
+package renderer;
+
+import java.util.SplittableRandom;
+
+/**
+ * Sampler dividing the pixel into a grid of n rows and m columns
+ * and placing a sample at a random position in each cell (jittered grid)
+ */
+public class StratifiedSampler implements Sampler {
+    private final long seed;
+
+    /**
+     * Constructs a stratified sampler
+     *
+     * @param seed the seed of the random positions in the cells
+     */
+    public StratifiedSampler(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public void samples(long pixel, int n, int m, double[] samples) {
+        SplittableRandom random = new SplittableRandom(Sampler.pixelSeed(seed, pixel));
+        int k = 0;
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < m; ++j) {
+                samples[k++] = (j + random.nextDouble()) / m;
+                samples[k++] = (i + random.nextDouble()) / n;
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package renderer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * TileRenderer is a helper class for multi-threaded rendering. The image is split
+ * recursively into rectangular tiles which are rendered on a fork/join pool, so idle
+ * threads steal the remaining tiles from busy ones. Alternatively the tiles are submitted
+ * as separate tasks to a given executor, such as a virtual thread executor.<br/>
+ * All the state belongs to a single render job, so several cameras may render
+ * at the same time.
+ */
+class TileRenderer {
+    /**
+     * Renders a rectangular tile of the image
+     */
+    @FunctionalInterface
+    interface TileAction {
+        /**
+         * Renders all the pixels of a tile
+         *
+         * @param x0 first column of the tile (inclusive)
+         * @param y0 first row of the tile (inclusive)
+         * @param x1 last column of the tile (exclusive)
+         * @param y1 last row of the tile (exclusive)
+         */
+        void render(int x0, int y0, int x1, int y1);
+    }
+
+    private final int nX;
+    private final int nY;
+    private final int tileSize;
+    private final int parallelism;
+
+    /**
+     * Constructs a render job
+     *
+     * @param nX          the amount of pixel columns
+     * @param nY          the amount of pixel rows
+     * @param tileSize    the maximal tile edge in pixels
+     * @param parallelism the amount of threads, 1 to render in the calling thread
+     */
+    TileRenderer(int nX, int nY, int tileSize, int parallelism) {
+        if (tileSize < 1)
+            throw new IllegalArgumentException("Tile size must be positive");
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be positive");
+        this.nX = nX;
+        this.nY = nY;
+        this.tileSize = tileSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Renders the whole image and waits for all the tiles to be done
+     *
+     * @param action the tile rendering action
+     */
+    void render(TileAction action) {
+        Tile image = new Tile(action, 0, 0, nX, nY);
+        if (parallelism == 1) {
+            image.compute();
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(image);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Renders the whole image by submitting each tile as a task to an executor.
+     * At most parallelism tiles are submitted and not yet done at any moment,
+     * and the calling thread blocks until all the tiles are done.
+     *
+     * @param action   the tile rendering action
+     * @param executor the executor running the tile tasks
+     * @throws IllegalStateException if the calling thread is interrupted while waiting
+     *                               or a tile threw a checked exception
+     */
+    void render(TileAction action, Executor executor) {
+        int tilesX = (nX + tileSize - 1) / tileSize;
+        int tilesY = (nY + tileSize - 1) / tileSize;
+        Semaphore limiter = new Semaphore(parallelism);
+        CountDownLatch done = new CountDownLatch(tilesX * tilesY);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            for (int y0 = 0; y0 < nY; y0 += tileSize) {
+                for (int x0 = 0; x0 < nX; x0 += tileSize) {
+                    int tx0 = x0, ty0 = y0;
+                    limiter.acquire();
+                    executor.execute(() -> {
+                        try {
+                            // once a tile failed the rest are skipped
+                            if (failure.get() == null)
+                                action.render(tx0, ty0, Math.min(tx0 + tileSize, nX), Math.min(ty0 + tileSize, nY));
+                        } catch (Throwable e) {
+                            // errors too, or the image would be returned with unwritten pixels
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            limiter.release();
+                            done.countDown();
+                        }
+                    });
+                }
+            }
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rendering was interrupted", e);
+        }
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException runtime) throw runtime;
+        if (e instanceof Error error) throw error;
+        if (e != null) throw new IllegalStateException("A tile failed to render", e);
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task
+     *
+     * @return the virtual thread executor
+     * @throws UnsupportedOperationException if the running Java version has no virtual threads
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            // looked up at runtime, the sources are kept at a Java level without virtual threads
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later", e);
+        }
+    }
+
+    /**
+     * A part of the image, split in two halves until it is small enough to be a tile.
+     * Tasks are never serialized, so the serializable contract of RecursiveAction is not kept.
+     */
+    @SuppressWarnings("serial")
+    private class Tile extends RecursiveAction {
+        private final TileAction action;
+        private final int x0, y0, x1, y1;
+
+        Tile(TileAction action, int x0, int y0, int x1, int y1) {
+            this.action = action;
+            this.x0 = x0;
+            this.y0 = y0;
+            this.x1 = x1;
+            this.y1 = y1;
+        }
+
+        @Override
+        protected void compute() {
+            int width = x1 - x0;
+            int height = y1 - y0;
+            if (width <= tileSize && height <= tileSize) {
+                action.render(x0, y0, x1, y1);
+                return;
+            }
+            // split the longer side on a tile border
+            if (width >= height) {
+                int mid = x0 + Math.max(1, width / 2 / tileSize) * tileSize;
+                invokeAll(new Tile(action, x0, y0, mid, y1), new Tile(action, mid, y0, x1, y1));
+            } else {
+                int mid = y0 + Math.max(1, height / 2 / tileSize) * tileSize;
+                invokeAll(new Tile(action, x0, y0, x1, mid), new Tile(action, x0, mid, x1, y1));
+            }
+        }
+    }
+}
@@ -168,7 +168,9 @@ public class Scene {
         }
 
         /**
-         * This function sets the geometries of the scene
+         * This function sets the geometries of the scene.
+         * Any Geometries implementation can be used, e.g. a {@link geometries.UniformGrid}
+         * for scenes made of many small objects.
          *
          * @param geometries The geometries of the scene.
          * @return The SceneBuilder object.
@@ -0,0 +1,387 @@
+package scene;
+
+import geometries.Geometries;
+import geometries.Geometry;
+import geometries.Intersectable;
+import geometries.Sphere;
+import geometries.Triangle;
+import geometries.TriangleMesh;
+import geometries.UniformGrid;
+import lighting.AmbientLight;
+import lighting.LightSource;
+import lighting.PointLight;
+import lighting.SpotLight;
+import primitives.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic scenes of any size for scaling benchmarks: random sphere fields,
+ * triangle soups and tessellated meshes (as separate triangles or as one indexed mesh),
+ * lighted by any amount of light sources.
+ * The scenes are reproducible - the same seed and settings always give the same scene.<br/>
+ * All the geometries lie inside the cube of edge {@link #setSize(double) size} centered at
+ * the origin, so a camera at (0, 0, 2 * size) looking towards -z sees the whole scene
+ * through a view plane of the cube size at distance size.
+ */
+public class SceneGenerator {
+    /**
+     * The structure holding the scene geometries
+     */
+    public enum Acceleration {
+        /**
+         * A plain geometries list, every ray is tested against every geometry
+         */
+        NONE,
+        /**
+         * A geometries list with a bounding volume hierarchy
+         */
+        BVH,
+        /**
+         * A uniform voxel grid
+         */
+        GRID
+    }
+
+    /**
+     * Amount of different materials in a scene, shared by the geometries
+     */
+    private static final int PALETTE_SIZE = 8;
+
+    private final long seed;
+    private int primitives = 1000;
+    private int lights = 1;
+    private double size = 100;
+    private Acceleration acceleration = Acceleration.BVH;
+
+    /**
+     * Constructs a scene generator
+     *
+     * @param seed the random seed, the same seed generates the same scenes
+     */
+    public SceneGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the amount of geometries in the generated scenes.
+     * Tessellated meshes get the closest even amount of triangles.
+     *
+     * @param primitives the amount of geometries
+     * @return the SceneGenerator object itself
+     */
+    public SceneGenerator setPrimitives(int primitives) {
+        if (primitives < 1)
+            throw new IllegalArgumentException("A scene must have at least one primitive");
+        this.primitives = primitives;
+        return this;
+    }
+
+    /**
+     * Sets the amount of light sources in the generated scenes.
+     * The total light intensity does not depend on the amount of light sources.
+     *
+     * @param lights the amount of light sources
+     * @return the SceneGenerator object itself
+     */
+    public SceneGenerator setLights(int lights) {
+        if (lights < 0)
+            throw new IllegalArgumentException("Amount of lights can not be negative");
+        this.lights = lights;
+        return this;
+    }
+
+    /**
+     * Sets the edge of the cube bounding the generated geometries
+     *
+     * @param size the cube edge
+     * @return the SceneGenerator object itself
+     */
+    public SceneGenerator setSize(double size) {
+        if (size <= 0)
+            throw new IllegalArgumentException("Scene size must be positive");
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * Sets the structure holding the generated geometries
+     *
+     * @param acceleration the geometries structure
+     * @return the SceneGenerator object itself
+     */
+    public SceneGenerator setAcceleration(Acceleration acceleration) {
+        this.acceleration = acceleration;
+        return this;
+    }
+
+    /**
+     * Generates a field of spheres with random centers and radii.
+     * The radii are scaled so the amount of overlaps does not grow with the amount of spheres.
+     *
+     * @return the scene
+     */
+    public Scene sphereField() {
+        Random random = new Random(seed);
+        Material[] materials = materials(random);
+        Color[] colors = colors(random);
+        double radius = 0.5 * size / Math.cbrt(primitives);
+        Intersectable[] spheres = new Intersectable[primitives];
+        for (int i = 0; i < primitives; ++i) {
+            double r = radius * (0.5 + 0.5 * random.nextDouble());
+            spheres[i] = decorate(new Sphere(randomPoint(random, size / 2 - r), r), random, materials, colors);
+        }
+        return build("Sphere field", spheres, random);
+    }
+
+    /**
+     * Generates a soup of small randomly placed and oriented triangles.
+     * The triangle edges are scaled so the amount of overlaps does not grow with the amount of triangles.
+     *
+     * @return the scene
+     */
+    public Scene triangleSoup() {
+        Random random = new Random(seed);
+        Material[] materials = materials(random);
+        Color[] colors = colors(random);
+        double edge = Math.min(size / 2, size / Math.cbrt(primitives));
+        Intersectable[] triangles = new Intersectable[primitives];
+        for (int i = 0; i < primitives; ++i) {
+            Point p0 = randomPoint(random, size / 2 - edge);
+            Triangle triangle = null;
+            while (triangle == null) {
+                try {
+                    triangle = new Triangle(p0, p0.add(randomVector(random, edge)), p0.add(randomVector(random, edge)));
+                } catch (IllegalArgumentException ignore) {
+                    // degenerate triangle, try other vertices
+                }
+            }
+            triangles[i] = decorate(triangle, random, materials, colors);
+        }
+        return build("Triangle soup", triangles, random);
+    }
+
+    /**
+     * Generates a tessellated wavy surface facing +z, a square grid of vertices
+     * shared by the neighbouring triangles, like a mesh loaded from a model file.
+     * Each face is a separate {@link Triangle}.
+     *
+     * @return the scene
+     */
+    public Scene tessellatedMesh() {
+        Random random = new Random(seed);
+        Material[] materials = materials(random);
+        Color[] colors = colors(random);
+        int cells = meshCells();
+        double[] vertices = meshVertices(random, cells);
+        Point[] points = new Point[vertices.length / 3];
+        for (int i = 0; i < points.length; ++i)
+            points[i] = new Point(vertices[3 * i], vertices[3 * i + 1], vertices[3 * i + 2]);
+        int[] indices = meshIndices(cells);
+
+        Intersectable[] triangles = new Intersectable[indices.length / 3];
+        for (int f = 0; f < triangles.length; ++f)
+            triangles[f] = decorate(new Triangle(points[indices[3 * f]], points[indices[3 * f + 1]],
+                    points[indices[3 * f + 2]]), random, materials, colors);
+        return build("Tessellated mesh", triangles, random);
+    }
+
+    /**
+     * Generates the same surface as {@link #tessellatedMesh()} as a single {@link TriangleMesh}
+     * with shared vertex and index buffers and a single material.
+     *
+     * @return the scene
+     */
+    public Scene indexedMesh() {
+        Random random = new Random(seed);
+        Material[] materials = materials(random);
+        Color[] colors = colors(random);
+        int cells = meshCells();
+        TriangleMesh mesh = new TriangleMesh(meshVertices(random, cells), meshIndices(cells));
+        return build("Indexed mesh", new Intersectable[]{decorate(mesh, random, materials, colors)}, random);
+    }
+
+    /**
+     * @return the amount of grid cells along each side of a mesh, two faces per cell
+     */
+    private int meshCells() {
+        return Math.max(1, (int) Math.round(Math.sqrt(primitives / 2d)));
+    }
+
+    /**
+     * Calculates the vertices of the wavy surface over a square grid
+     *
+     * @param random the random generator
+     * @param cells  the amount of cells along each side
+     * @return the vertex coordinates, x y z of each vertex in turn, row by row
+     */
+    private double[] meshVertices(Random random, int cells) {
+        double step = size / cells;
+        double amplitude = size / 10;
+        // sum of three waves with random frequencies and phases
+        double[] frequency = new double[6];
+        double[] phase = new double[6];
+        for (int i = 0; i < 6; ++i) {
+            frequency[i] = (1 + 3 * random.nextDouble()) * 2 * Math.PI / size;
+            phase[i] = 2 * Math.PI * random.nextDouble();
+        }
+
+        double[] vertices = new double[3 * (cells + 1) * (cells + 1)];
+        int v = 0;
+        for (int i = 0; i <= cells; ++i) {
+            for (int j = 0; j <= cells; ++j) {
+                double x = -size / 2 + j * step;
+                double y = -size / 2 + i * step;
+                double z = 0;
+                for (int w = 0; w < 3; ++w)
+                    z += Math.sin(x * frequency[2 * w] + phase[2 * w]) * Math.sin(y * frequency[2 * w + 1] + phase[2 * w + 1]);
+                vertices[v++] = x;
+                vertices[v++] = y;
+                vertices[v++] = amplitude * z / 3;
+            }
+        }
+        return vertices;
+    }
+
+    /**
+     * Calculates the faces of a square grid mesh, two per cell
+     *
+     * @param cells the amount of cells along each side
+     * @return the vertex indices, three per face
+     */
+    private static int[] meshIndices(int cells) {
+        int[] indices = new int[6 * cells * cells];
+        int k = 0;
+        for (int i = 0; i < cells; ++i) {
+            for (int j = 0; j < cells; ++j) {
+                int a = i * (cells + 1) + j;
+                int b = a + 1;
+                int c = a + cells + 1;
+                int d = c + 1;
+                indices[k++] = a;
+                indices[k++] = b;
+                indices[k++] = d;
+                indices[k++] = a;
+                indices[k++] = d;
+                indices[k++] = c;
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Builds the scene from the generated geometries and adds the light sources
+     */
+    private Scene build(String name, Intersectable[] items, Random random) {
+        Geometries geometries = switch (acceleration) {
+            case NONE -> new Geometries(items);
+            case BVH -> new Geometries(items).setBVH(true);
+            case GRID -> new UniformGrid(items);
+        };
+
+        // point and spot lights above the scene, sharing the same total intensity
+        List<LightSource> sources = new ArrayList<>(lights);
+        Color intensity = new Color(800, 800, 800).reduce(Math.max(1, lights));
+        for (int i = 0; i < lights; ++i) {
+            Point position = new Point((random.nextDouble() - 0.5) * size, (random.nextDouble() - 0.5) * size,
+                    size * (0.5 + 0.5 * random.nextDouble()));
+            sources.add(i % 2 == 0
+                    ? new PointLight(intensity, position).setKl(0.5 / size).setKq(0.5 / (size * size))
+                    : new SpotLight(intensity, position, Point.ZERO.subtract(position)).setKl(0.5 / size));
+        }
+
+        return new Scene.SceneBuilder(name + " " + items.length + " seed " + seed)
+                .setAmbientLight(new AmbientLight(new Color(255, 255, 255), new Double3(0.1)))
+                .setGeometries(geometries)
+                .setLights(sources)
+                .build();
+    }
+
+    private static Geometry decorate(Geometry geometry, Random random, Material[] materials, Color[] colors) {
+        int index = random.nextInt(PALETTE_SIZE);
+        return geometry.setMaterial(materials[index]).setEmission(colors[index]);
+    }
+
+    private static Material[] materials(Random random) {
+        Material[] materials = new Material[PALETTE_SIZE];
+        for (int i = 0; i < PALETTE_SIZE; ++i)
+            materials[i] = new Material()
+                    .setKd(0.2 + 0.6 * random.nextDouble())
+                    .setKs(0.2 + 0.6 * random.nextDouble())
+                    .setnShines(10 + random.nextInt(290));
+        return materials;
+    }
+
+    private static Color[] colors(Random random) {
+        Color[] colors = new Color[PALETTE_SIZE];
+        for (int i = 0; i < PALETTE_SIZE; ++i)
+            colors[i] = new Color(255 * random.nextDouble(), 255 * random.nextDouble(), 255 * random.nextDouble())
+                    .reduce(4);
+        return colors;
+    }
+
+    private static Point randomPoint(Random random, double halfSize) {
+        return new Point((2 * random.nextDouble() - 1) * halfSize,
+                (2 * random.nextDouble() - 1) * halfSize,
+                (2 * random.nextDouble() - 1) * halfSize);
+    }
+
+    private static Vector randomVector(Random random, double length) {
+        Vector v = new Vector(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        return v.normalize().scale(length * (0.5 + 0.5 * random.nextDouble()));
+    }
+
+    /**
+     * Generates a scene and measures how long finding the closest intersections of
+     * primary rays takes, to see how the intersection cost grows with the scene size.<br/>
+     * Usage: {@code SceneGenerator <spheres|triangles|mesh|indexed> <primitives> [lights] [seed] [none|bvh|grid] [rays]}
+     *
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: SceneGenerator <spheres|triangles|mesh|indexed> <primitives> [lights] [seed] [none|bvh|grid] [rays]");
+            return;
+        }
+        int primitives = Integer.parseInt(args[1]);
+        int lights = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1;
+        Acceleration acceleration = args.length > 4 ? Acceleration.valueOf(args[4].toUpperCase()) : Acceleration.BVH;
+        int rays = args.length > 5 ? Integer.parseInt(args[5]) : 100_000;
+        SceneGenerator generator = new SceneGenerator(seed).setPrimitives(primitives).setLights(lights)
+                .setAcceleration(acceleration);
+
+        long start = System.nanoTime();
+        Scene scene = switch (args[0]) {
+            case "spheres" -> generator.sphereField();
+            case "triangles" -> generator.triangleSoup();
+            case "mesh" -> generator.tessellatedMesh();
+            case "indexed" -> generator.indexedMesh();
+            default -> throw new IllegalArgumentException("Unknown scene kind " + args[0]);
+        };
+        System.out.printf("%s, %d lights: generated in %.1f ms%n", scene.getName(), scene.getLights().size(),
+                (System.nanoTime() - start) / 1e6);
+
+        // primary rays from the camera position through the cube front face
+        double size = generator.size;
+        Point head = new Point(0, 0, 2 * size);
+        Random random = new Random(seed);
+        Ray first = new Ray(head, new Point(0, 0, 0).subtract(head));
+        start = System.nanoTime();
+        scene.getGeometries().findClosestGeoIntersection(first); // builds the acceleration structure
+        System.out.printf("First ray (with the %s structure build): %.1f ms%n", acceleration,
+                (System.nanoTime() - start) / 1e6);
+
+        int hits = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < rays; ++i) {
+            Point target = new Point((random.nextDouble() - 0.5) * size, (random.nextDouble() - 0.5) * size, size / 2);
+            if (scene.getGeometries().findClosestGeoIntersection(new Ray(head, target.subtract(head))) != null)
+                ++hits;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d rays, %d hits: %.3f s, %.0f rays/s%n", rays, hits, seconds, rays / seconds);
+    }
+}
@@ -0,0 +1,102 @@
+package geometries;
+
+import org.junit.jupiter.api.Test;
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link geometries.BoundingBox} and the bounding boxes of the geometries
+ */
+class BoundingBoxTests {
+
+    /**
+     * Test method for {@link geometries.BoundingBox#intersects(Ray)}.
+     */
+    @Test
+    void testIntersects() {
+        BoundingBox box = new BoundingBox(new Point(-1, -1, -1), new Point(1, 1, 1));
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Ray crosses the box
+        assertTrue(box.intersects(new Ray(new Point(-3, -2, 0), new Vector(3, 2, 0.5))), "Ray crosses the box");
+        // TC02: Ray passes beside the box
+        assertFalse(box.intersects(new Ray(new Point(-3, 2, 0), new Vector(1, 0.1, 0))), "Ray passes beside the box");
+        // TC03: Box is behind the ray
+        assertFalse(box.intersects(new Ray(new Point(3, 0, 0), new Vector(1, 0, 0))), "Box is behind the ray");
+        // TC04: Ray starts inside the box
+        assertTrue(box.intersects(new Ray(new Point(0.5, 0, 0), new Vector(1, 2, 3))), "Ray starts inside the box");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Ray parallel to the box faces, starting on a face plane
+        assertTrue(box.intersects(new Ray(new Point(-1, 0, -5), new Vector(0, 0, 1))), "Ray on a face plane");
+        // TC12: Flat box (zero thickness) crossed by a ray
+        assertTrue(new BoundingBox(new Point(0, 0, 0), new Point(1, 1, 0))
+                .intersects(new Ray(new Point(0.5, 0.5, 1), new Vector(0, 0, -1))), "Ray crosses a flat box");
+    }
+
+    /**
+     * Test method for {@link geometries.BoundingBox#entryDistance(Ray, double)}.
+     */
+    @Test
+    void testEntryDistance() {
+        BoundingBox box = new BoundingBox(new Point(-1, -1, -1), new Point(1, 1, 1));
+        Ray ray = new Ray(new Point(0, 0, 5), new Vector(0, 0, -1));
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Ray enters the box through its far face along a negative direction
+        assertEquals(4, box.entryDistance(ray, Double.POSITIVE_INFINITY), 1e-10, "wrong entry distance");
+        // TC02: Ray ends before the box
+        assertEquals(Double.POSITIVE_INFINITY, box.entryDistance(ray, 3), "ray ends before the box");
+        // TC03: Ray interval ends before the box
+        assertFalse(box.intersects(ray.withInterval(0, 3)), "ray interval ends before the box");
+        // TC04: Ray interval starts inside the box
+        assertEquals(5, box.entryDistance(ray.withInterval(5, 10), Double.POSITIVE_INFINITY), 1e-10,
+                "wrong entry distance of an interval starting inside the box");
+        // TC05: Ray interval starts beyond the box
+        assertFalse(box.intersects(ray.withInterval(7, 10)), "ray interval starts beyond the box");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Ray interval ends on the box face
+        assertEquals(4, box.entryDistance(ray.withInterval(0, 4), Double.POSITIVE_INFINITY), 1e-10,
+                "wrong entry distance of an interval ending on the box");
+    }
+
+    /**
+     * Test method for {@link geometries.Intersectable#getBoundingBox()}.
+     */
+    @Test
+    void testGetBoundingBox() {
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Cylinder along the z axis
+        BoundingBox box = new Cylinder(new Ray(new Point(1, 1, 0), new Vector(0, 0, 1)), 1, 3).getBoundingBox();
+        assertEquals(new Point(0, 0, 0), box.getMin(), "Bad cylinder box lower corner");
+        assertEquals(new Point(2, 2, 3), box.getMax(), "Bad cylinder box upper corner");
+
+        // TC02: Geometries box is the union of its items
+        Geometries geometries = new Geometries(new Sphere(new Point(0, 0, 0), 1),
+                new Triangle(new Point(2, 0, 0), new Point(0, 3, 0), new Point(0, 0, 4)));
+        assertEquals(new Point(-1, -1, -1), geometries.getBoundingBox().getMin(), "Bad union box lower corner");
+        assertEquals(new Point(2, 3, 4), geometries.getBoundingBox().getMax(), "Bad union box upper corner");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Infinite geometries have no box
+        assertNull(new Plane(new Point(0, 0, 0), new Vector(0, 0, 1)).getBoundingBox(), "Plane must be unbounded");
+        assertNull(new Tube(new Ray(new Point(0, 0, 0), new Vector(0, 0, 1)), 1).getBoundingBox(),
+                "Tube must be unbounded");
+        // TC12: Adding an unbounded geometry makes the Geometries unbounded
+        geometries.add(new Plane(new Point(0, 0, 0), new Vector(0, 0, 1)));
+        assertNull(geometries.getBoundingBox(), "Geometries with a plane must be unbounded");
+        // TC13: Growing a nested Geometries grows the box of its container
+        Geometries inner = new Geometries(new Sphere(new Point(0, 0, 0), 1));
+        Geometries outer = new Geometries(inner);
+        assertEquals(new Point(1, 1, 1), outer.getBoundingBox().getMax(), "Bad container box upper corner");
+        Sphere far = new Sphere(new Point(10, 0, 0), 1);
+        inner.add(far);
+        assertEquals(new Point(11, 1, 1), outer.getBoundingBox().getMax(), "Stale container box");
+        assertNotNull(outer.findClosestGeoIntersection(new Ray(new Point(10, 0, 5), new Vector(0, 0, -1))),
+                "Ray through the added sphere must hit it through the container");
+    }
+}
@@ -57,6 +57,24 @@ class CylinderTests {
         assertEquals(new Vector(0, 0, -1), cylinder.getNormal(new Point(0, 1, 0)), "Bad normal to the bottom-edge of the cylinder");
 
     }
-    //
+
+    /**
+     * Test method for {@link geometries.Cylinder#findIntersections(Ray)}.
+     */
+    @Test
+    void testFindIntersections() {
+        Cylinder cylinder = new Cylinder(new Ray(new Point(1, 1, 0), new Vector(0, 0, 1)), 1d, 3d);
+
+        // ============ Equivalence Partitions Tests ==============
+        //TC01: Ray crosses the side of the cylinder between the bases
+        var result = cylinder.findIntersections(new Ray(new Point(-1, 1, 1), new Vector(1, 0, 0)));
+        assertEquals(2, result.size(), "Wrong number of points");
+        //TC02: Ray crosses the infinite tube above the top base
+        assertNull(cylinder.findIntersections(new Ray(new Point(-1, 1, 4), new Vector(1, 0, 0))),
+                "Ray above the cylinder");
+        //TC03: Ray crosses the side once between the bases and once above the top base
+        result = cylinder.findIntersections(new Ray(new Point(-1, 1, 2), new Vector(2, 0, 1)));
+        assertEquals(1, result.size(), "Wrong number of points");
+    }
 
 }
\ No newline at end of file
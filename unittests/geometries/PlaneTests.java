@@ -120,6 +120,30 @@ class PlaneTests {
         assertNull(p1.findIntersections(r9),//problem
                 "findIntersections() for neither orthogonal nor parallel Ray in the plane is wrong");
     }
-}
 
+    /**
+     * Test method for {@link Plane#prepareOrigin(Point)}.
+     */
+    @Test
+    void testPrepareOrigin() {
+        Plane plane = new Plane(new Point(0, 0, 1), new Vector(0, 0, 1));
+        Point origin = new Point(0, 0, 3);
+        plane.prepareOrigin(origin);
 
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Ray from the prepared origin
+        assertEquals(List.of(new Point(1, 0, 1)), plane.findIntersections(new Ray(origin, new Vector(1, 0, -2))),
+                "Wrong intersection from the prepared origin");
+        // TC02: Ray from another head is intersected as usual
+        assertEquals(List.of(new Point(0, 0, 1)),
+                plane.findIntersections(new Ray(new Point(0, 0, -1), new Vector(0, 0, 1))),
+                "Wrong intersection from another head");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Origin in the plane
+        Point q0 = new Point(0, 0, 1);
+        plane.prepareOrigin(q0);
+        assertNull(plane.findIntersections(new Ray(q0, new Vector(1, 2, 3))),
+                "Ray from a prepared origin in the plane must not intersect");
+    }
+}
@@ -111,6 +111,18 @@ public class PolygonTests {
         assertNull(p.findIntersections(r3),
                 "findIntersections() wrong result");
 
+        //TC04: Pentagon facing the x axis, inside and outside near a vertex
+        Polygon pentagon = new Polygon(
+                new Point(0, 0, 0),
+                new Point(0, 2, 0),
+                new Point(0, 3, 2),
+                new Point(0, 1, 3),
+                new Point(0, -1, 2));
+        assertEquals(List.of(new Point(0, 1, 2)), pentagon.findIntersections(new Ray(new Point(1, 1, 2), new Vector(-1, 0, 0))),
+                "Ray intersection isn't working on pentagon");
+        assertNull(pentagon.findIntersections(new Ray(new Point(1, 2.9, 2.5), new Vector(-1, 0, 0))),
+                "Ray outside the pentagon near a vertex");
+
         // =============== Boundary Values Tests ==================
         //TC11: Ray intersect on edge
         Ray r4 = new Ray(new Point(-1, -1, 1), new Vector(-5, -3, -1.6));
@@ -126,8 +138,14 @@ public class PolygonTests {
         Ray r6 = new Ray(new Point(-1, -1, 1), new Vector(-3, -5, -1.5));
         assertNull(p.findIntersections(r6),
                 "findIntersections() Ray intersect on edge's continuation wrong result");
+
+        //TC14: Three vertices polygon subclass without its own intersection uses the polygon inside test
+        Polygon threeVertices = new Polygon(new Point(0, 0, 0), new Point(2, 0, 0), new Point(0, 2, 0)) {
+        };
+        assertEquals(List.of(new Point(0.5, 0.5, 0)),
+                threeVertices.findIntersections(new Ray(new Point(0.5, 0.5, 1), new Vector(0, 0, -1))),
+                "Polygon subclass must intersect");
+        assertTrue(threeVertices.isRayOnPolygon(new Ray(new Point(0.5, 0.5, 1), new Vector(0, 0, -1))),
+                "Polygon subclass ray must be on the polygon");
     }
 }
-
-
-
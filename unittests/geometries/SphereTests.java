@@ -1,6 +1,7 @@
 package geometries;
 
 import org.junit.jupiter.api.Test;
+import primitives.Double3;
 import primitives.Point;
 import primitives.Vector;
 import primitives.Ray;
@@ -148,4 +149,66 @@ class SphereTests {
         // TC22: Ray's line is outside, ray is orthogonal to ray start to sphere's center line
         assertNull(sphere.findIntersections(new Ray(new Point(-2,0,6.28),new Vector(2,0,-0.01))),"Ray's line is outside the sphere. The ray is orthogonal to the ray that goes through the center line");
     }
-}
\ No newline at end of file
+
+    /**
+     * Test method for {@link Sphere#prepareOrigin(Point)}.
+     */
+    @Test
+    void testPrepareOrigin() {
+        Sphere sphere = new Sphere(new Point(1, 0, 0), 1d);
+        Point origin = new Point(-1, 0, 0);
+        Ray fromOrigin = new Ray(origin, new Vector(3, 1, 0));
+        Ray fromElsewhere = new Ray(new Point(3, 0, 0), new Vector(-1, 0, 0));
+        List<Point> expected = sphere.findIntersections(fromOrigin);
+        sphere.prepareOrigin(origin);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Ray from the prepared origin
+        assertEquals(expected, sphere.findIntersections(fromOrigin), "Wrong intersections from the prepared origin");
+        // TC02: Ray from another head is intersected as usual
+        assertEquals(List.of(new Point(0, 0, 0), new Point(2, 0, 0)), sphere.findIntersections(fromElsewhere),
+                "Wrong intersections from another head");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Origin at the center
+        Point center = new Point(1, 0, 0);
+        sphere.prepareOrigin(center);
+        assertEquals(List.of(new Point(1, 1, 0)), sphere.findIntersections(new Ray(center, new Vector(0, 1, 0))),
+                "Wrong intersection from the prepared center");
+    }
+
+    /**
+     * Test method for the ray interval in {@link Intersectable#findGeoIntersections(Ray)},
+     * {@link Intersectable#findClosestGeoIntersection(Ray)} and
+     * {@link Intersectable#findTransparency(Ray, double, double)}.
+     */
+    @Test
+    void testRayInterval() {
+        Sphere sphere = new Sphere(new Point(0, 0, -3), 1d);
+        Ray ray = new Ray(new Point(0, 0, 0), new Vector(0, 0, -1));
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Interval starting between the hits keeps only the far hit
+        Ray far = ray.withInterval(3, Double.POSITIVE_INFINITY);
+        assertEquals(List.of(new Point(0, 0, -4)), sphere.findIntersections(far), "Wrong hits after the interval start");
+        assertEquals(new Point(0, 0, -4), sphere.findClosestGeoIntersection(far).point,
+                "Closest hit must be in the interval");
+        // TC02: Interval ending between the hits keeps only the near hit
+        Ray near = ray.withInterval(0, 3);
+        assertEquals(List.of(new Point(0, 0, -2)), sphere.findIntersections(near), "Wrong hits before the interval end");
+        assertEquals(new Point(0, 0, -2), sphere.findClosestGeoIntersection(near).point, "Wrong closest hit");
+        // TC03: Interval between the hits has no hits
+        Ray between = ray.withInterval(2.5, 3.5);
+        assertNull(sphere.findIntersections(between), "No hits between the surfaces");
+        assertNull(sphere.findClosestGeoIntersection(between), "No closest hit between the surfaces");
+        assertEquals(Double3.ONE, sphere.findTransparency(between, 10, 0.001), "Nothing blocks the interval");
+        // TC04: Interval starting between the hits is blocked by the far hit only
+        assertEquals(Double3.ZERO, sphere.findTransparency(far, 10, 0.001), "The far hit blocks the light");
+        assertEquals(Double3.ONE, sphere.findTransparency(far, 3.5, 0.001), "The near hit is before the interval");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Interval ends are inclusive
+        assertEquals(List.of(new Point(0, 0, -4)), sphere.findIntersections(ray.withInterval(4, 4)),
+                "Hit at the interval end must be kept");
+    }
+}
@@ -52,4 +52,151 @@ class TestGeometries {
         //TC05: Empty list of geometries
         assertNull(new Geometries().findIntersections(new Ray(new Point(1,2,3), new Vector(2,2,2))), "Empty list of geometries");
     }
-}
\ No newline at end of file
+
+    /**
+     * Test method for {@link geometries.Geometries#findIntersections(Ray)} in bounding volume hierarchy mode.
+     */
+    @Test
+    void testFindIntersectionsBVH() {
+        Geometries geometries = new Geometries(
+                new Sphere(new Point(0, 0, 2), 0.5),
+                new Polygon(
+                        new Point( 1, 0, 0),
+                        new Point(0,  1, 0),
+                        new Point(-1, 0, 0),
+                        new Point(0, -1, 0)
+                ),
+                new Triangle(
+                        new Point(1, 0, 0),
+                        new Point(0, 1, 0),
+                        new Point(0, 0, 1)
+                ),
+                new Sphere(new Point(10, 10, -10), 1)
+        ).setBVH(true);
+        List<Point> result;
+
+        // ============ Equivalence Partitions Tests ==============
+        //TC01: A few geometries intersects
+        result=geometries.findIntersections(new Ray(new Point(-1,-1,-1),new Vector(2,2,2)));
+        assertEquals(2, result.size(), "A few geometries intersects");
+
+        //TC02: Geometry added after the hierarchy was built
+        geometries.add(new Plane(new Point(0, 0, -5), new Vector(0, 0, 1)));
+        result=geometries.findIntersections(new Ray(new Point(0.2,0.2,-10),new Vector(0,0,1)));
+        assertEquals(5,result.size(),"Geometry added after the hierarchy was built");
+
+        // =============== Boundary Values Tests ==================
+        //TC03: All bounded geometries intersects
+        result=geometries.findIntersections(new Ray(new Point(0.2,0.2,-0.6),new Vector(0,0,1)));
+        assertEquals(4,result.size(),"All geometries intersects");
+
+        //TC04: Only 1 geometry intersect
+        result=geometries.findIntersections(new Ray(new Point(0.2,0.2,0.2),new Vector(1,1,1)));
+        assertEquals(1,result.size(),"Only 1 geometry intersect");
+
+        //TC05: No geometries intersects
+        assertNull(geometries.findIntersections(new Ray(new Point(1, 1, 1), new Vector(-1, 1, 1))), "No geometries intersects");
+
+        //TC06: Empty list of geometries
+        assertNull(new Geometries().setBVH(true).findIntersections(new Ray(new Point(1,2,3), new Vector(2,2,2))), "Empty list of geometries");
+
+        //TC07: Geometry added to a nested Geometries after the hierarchy was built
+        Geometries inner = new Geometries(new Sphere(new Point(0, 0, 0), 1));
+        Geometries outer = new Geometries(inner, new Sphere(new Point(-10, 0, 0), 1),
+                new Sphere(new Point(-20, 0, 0), 1)).setBVH(true);
+        Ray ray = new Ray(new Point(10, 0, 5), new Vector(0, 0, -1));
+        assertNull(outer.findClosestGeoIntersection(ray), "No geometry before the nested one grows");
+        assertNotNull(outer.findClosestGeoIntersection(new Ray(new Point(-10, 0, 5), new Vector(0, 0, -1))),
+                "The structure is built by a query hitting a geometry");
+        inner.add(new Sphere(new Point(10, 0, 0), 1));
+        assertEquals(new Point(10, 0, 1), outer.findClosestGeoIntersection(ray).point,
+                "Geometry added to a nested Geometries must be found");
+    }
+
+    /**
+     * Test method for {@link geometries.Geometries#findClosestGeoIntersection(Ray, double)}.
+     */
+    @Test
+    void testFindClosestGeoIntersection() {
+        Sphere sphere = new Sphere(new Point(0, 0, 2), 0.5);
+        Polygon square = new Polygon(
+                new Point(1, 0, 0),
+                new Point(0, 1, 0),
+                new Point(-1, 0, 0),
+                new Point(0, -1, 0));
+        Plane plane = new Plane(new Point(0, 0, 5), new Vector(0, 0, 1));
+        Ray ray = new Ray(new Point(0.2, 0.2, -1), new Vector(0, 0, 1));
+
+        for (Geometries geometries : List.of(new Geometries(plane, sphere, square),
+                new Geometries(plane, sphere, square).setBVH(true))) {
+            // ============ Equivalence Partitions Tests ==============
+            //TC01: The closest of several geometries
+            Intersectable.GeoPoint closest = geometries.findClosestGeoIntersection(ray);
+            assertEquals(square, closest.geometry, "Wrong closest geometry");
+            assertEquals(new Point(0.2, 0.2, 0), closest.point, "Wrong closest point");
+
+            //TC02: Intersections beyond the distance are skipped
+            assertNull(geometries.findClosestGeoIntersection(ray, 0.5), "Intersection beyond the distance");
+
+            // =============== Boundary Values Tests ==================
+            //TC11: Ray starts between the geometries
+            closest = geometries.findClosestGeoIntersection(new Ray(new Point(0.2, 0.2, 1), new Vector(0, 0, 1)));
+            assertEquals(sphere, closest.geometry, "Wrong closest geometry");
+
+            //TC12: No geometry intersects
+            assertNull(geometries.findClosestGeoIntersection(new Ray(new Point(0.2, 0.2, 6), new Vector(0, 0, 1))),
+                    "No geometries intersects");
+        }
+    }
+
+    /**
+     * Test method for {@link geometries.Geometries#findTransparency(Ray, double, double)}.
+     */
+    @Test
+    void testFindTransparency() {
+        Geometry glass = new Sphere(new Point(0, 0, 2), 0.5).setMaterial(new Material().setKt(0.5));
+        Geometry wall = new Polygon(
+                new Point(1, 0, 4),
+                new Point(0, 1, 4),
+                new Point(-1, 0, 4),
+                new Point(0, -1, 4));
+        Ray ray = new Ray(new Point(0.1, 0.1, 0), new Vector(0, 0, 1));
+
+        for (Geometries geometries : List.of(new Geometries(glass, wall), new Geometries(glass, wall).setBVH(true),
+                new UniformGrid(glass, wall))) {
+            // ============ Equivalence Partitions Tests ==============
+            //TC01: Light behind a transparent sphere (crossed twice)
+            assertEquals(new Double3(0.25), geometries.findTransparency(ray, 3, 0.001), "Wrong transparency");
+            //TC02: Light behind an opaque wall
+            assertEquals(Double3.ZERO, geometries.findTransparency(ray, 10, 0.001), "Light must be blocked");
+
+            // =============== Boundary Values Tests ==================
+            //TC11: Light in front of all the geometries
+            assertEquals(Double3.ONE, geometries.findTransparency(ray, 1, 0.001), "Nothing blocks the light");
+        }
+    }
+
+    /**
+     * Test method for {@link geometries.Geometries#add(Intersectable...)}.
+     */
+    @Test
+    void testAdd() {
+        Geometries inner = new Geometries(new Sphere(new Point(0, 0, 0), 1));
+        Geometries outer = new Geometries(inner);
+        Ray ray = new Ray(new Point(10, 0, 5), new Vector(0, 0, -1));
+
+        // ============ Equivalence Partitions Tests ==============
+        //TC01: Adding a Geometries to one of its descendants is rejected
+        assertThrows(IllegalArgumentException.class, () -> inner.add(outer), "A cycle must be rejected");
+        assertNull(inner.findIntersections(ray), "A rejected item must not be added");
+
+        // =============== Boundary Values Tests ==================
+        //TC11: Adding a Geometries to itself is rejected
+        assertThrows(IllegalArgumentException.class, () -> outer.add(outer), "A Geometries can't contain itself");
+
+        //TC12: A Geometries added twice still passes its changes to its container
+        outer.add(inner);
+        inner.add(new Sphere(new Point(10, 0, 0), 1));
+        assertEquals(4, outer.findIntersections(ray).size(), "The grown nested Geometries is listed twice");
+    }
+}
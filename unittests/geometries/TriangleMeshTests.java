@@ -0,0 +1,196 @@
+package geometries;
+
+import geometries.Intersectable.GeoPoint;
+import org.junit.jupiter.api.Test;
+import primitives.Double3;
+import primitives.Material;
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link geometries.TriangleMesh}
+ */
+class TriangleMeshTests {
+    /**
+     * Square [0,2]x[0,2] on the z=0 plane, made of two faces sharing the diagonal
+     */
+    private final TriangleMesh square = new TriangleMesh(
+            new double[]{0, 0, 0, 2, 0, 0, 2, 2, 0, 0, 2, 0},
+            new int[]{0, 1, 2, 0, 2, 3});
+
+    /**
+     * Builds a closed tessellated sphere as a mesh and as separate triangles
+     */
+    private static Object[] tessellatedSphere(int rings, int segments) {
+        double[] vertices = new double[3 * (rings + 1) * segments];
+        for (int i = 0; i <= rings; ++i) {
+            double theta = Math.PI * i / rings;
+            for (int j = 0; j < segments; ++j) {
+                double phi = 2 * Math.PI * j / segments;
+                int v = 3 * (i * segments + j);
+                vertices[v] = Math.sin(theta) * Math.cos(phi);
+                vertices[v + 1] = Math.sin(theta) * Math.sin(phi);
+                vertices[v + 2] = Math.cos(theta);
+            }
+        }
+        int[] indices = new int[6 * (rings - 2) * segments + 6 * segments];
+        Geometries triangles = new Geometries();
+        int count = 0;
+        for (int i = 0; i < rings; ++i) {
+            for (int j = 0; j < segments; ++j) {
+                int a = i * segments + j, b = i * segments + (j + 1) % segments;
+                int c = a + segments, d = b + segments;
+                int[][] faces = i == 0 ? new int[][]{{a, c, d}} : i == rings - 1 ? new int[][]{{a, c, b}}
+                        : new int[][]{{a, c, d}, {a, d, b}};
+                for (int[] face : faces) {
+                    System.arraycopy(face, 0, indices, count, 3);
+                    count += 3;
+                    triangles.add(new Triangle(point(vertices, face[0]), point(vertices, face[1]), point(vertices, face[2])));
+                }
+            }
+        }
+        return new Object[]{new TriangleMesh(vertices, indices), triangles};
+    }
+
+    private static Point point(double[] vertices, int index) {
+        return new Point(vertices[3 * index], vertices[3 * index + 1], vertices[3 * index + 2]);
+    }
+
+    /**
+     * Test method for {@link geometries.TriangleMesh#TriangleMesh(double[], int[])}.
+     */
+    @Test
+    void testConstructor() {
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Correct mesh
+        assertEquals(2, square.getFaceCount(), "Wrong amount of faces");
+        assertEquals(4, square.getVertexCount(), "Wrong amount of vertices");
+        assertEquals(new Point(2, 2, 0), square.getBoundingBox().getMax(), "Bad mesh box");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Index out of the vertex buffer
+        assertThrows(IllegalArgumentException.class,
+                () -> new TriangleMesh(new double[]{0, 0, 0, 1, 0, 0, 0, 1, 0}, new int[]{0, 1, 3}),
+                "Index out of range must throw");
+        // TC12: Buffers not made of triples
+        assertThrows(IllegalArgumentException.class,
+                () -> new TriangleMesh(new double[]{0, 0, 0, 1, 0, 0, 0, 1}, new int[]{0, 1, 2}),
+                "Bad vertex buffer must throw");
+        // TC13: No faces
+        assertThrows(IllegalArgumentException.class,
+                () -> new TriangleMesh(new double[]{0, 0, 0}, new int[0]), "Empty mesh must throw");
+    }
+
+    /**
+     * Test method for {@link geometries.TriangleMesh#getNormal(Point)}.
+     */
+    @Test
+    void testGetNormal() {
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Point inside a face
+        assertEquals(new Vector(0, 0, 1), square.getNormal(new Point(1.5, 0.5, 0)), "Bad face normal");
+        // TC02: Faces of a closed mesh point outwards
+        TriangleMesh sphere = (TriangleMesh) tessellatedSphere(12, 16)[0];
+        GeoPoint gp = sphere.findClosestGeoIntersection(new Ray(new Point(0.1, 0.2, 5), new Vector(0, 0, -1)));
+        assertTrue(sphere.getNormal(gp.point).getZ() > 0.9, "Normal must point outwards");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Point off the mesh
+        assertThrows(IllegalArgumentException.class, () -> square.getNormal(new Point(5, 5, 0)),
+                "Point off the mesh must throw");
+    }
+
+    /**
+     * Test method for {@link geometries.TriangleMesh#findIntersections(Ray)}.
+     */
+    @Test
+    void testFindIntersections() {
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Ray crosses a face
+        assertEquals(List.of(new Point(1.5, 0.5, 0)),
+                square.findIntersections(new Ray(new Point(1.5, 0.5, 1), new Vector(0, 0, -1))), "Bad intersection");
+        // TC02: Ray misses the mesh
+        assertNull(square.findIntersections(new Ray(new Point(3, 0.5, 1), new Vector(0, 0, -1))),
+                "Ray must miss the mesh");
+        // TC03: Mesh behind the ray
+        assertNull(square.findIntersections(new Ray(new Point(1.5, 0.5, 1), new Vector(0, 0, 1))),
+                "Mesh is behind the ray");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Ray crosses the edge shared by the faces, the mesh has no crack there
+        List<Point> points = square.findIntersections(new Ray(new Point(1, 1, 1), new Vector(0, 0, -1)));
+        assertEquals(List.of(new Point(1, 1, 0)), points, "A shared edge must be hit once");
+        // TC12: Ray parallel to the mesh
+        assertNull(square.findIntersections(new Ray(new Point(-1, 1, 0.5), new Vector(1, 0, 0))),
+                "Parallel ray must miss the mesh");
+        // TC13: Tiny face crossed straight, its small determinant must not read as parallel
+        TriangleMesh tiny = new TriangleMesh(new double[]{0, 0, 0, 1e-6, 0, 0, 0, 1e-6, 0}, new int[]{0, 1, 2});
+        assertEquals(List.of(new Point(2e-7, 2e-7, 0)),
+                tiny.findIntersections(new Ray(new Point(2e-7, 2e-7, 1), new Vector(0, 0, -1))),
+                "Tiny face must be hit");
+        // TC14: Ray through the vertex shared by the faces is hit once
+        assertEquals(List.of(new Point(0, 0, 0)),
+                square.findIntersections(new Ray(new Point(0, 0, 1), new Vector(0, 0, -1))),
+                "A shared vertex must be hit once");
+    }
+
+    /**
+     * Test method for {@link geometries.Intersectable#findTransparency(Ray, double, double)}.
+     */
+    @Test
+    void testFindTransparency() {
+        square.setMaterial(new Material().setKt(0.5));
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Light through a face
+        assertEquals(new Double3(0.5),
+                square.findTransparency(new Ray(new Point(1.5, 0.5, 1), new Vector(0, 0, -1)), 2, 0.001),
+                "Bad transparency through a face");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Light through the shared edge is attenuated once, with no dark seam
+        assertEquals(new Double3(0.5),
+                square.findTransparency(new Ray(new Point(1, 1, 1), new Vector(0, 0, -1)), 2, 0.001),
+                "Bad transparency through the shared edge");
+    }
+
+    /**
+     * Test method for {@link geometries.TriangleMesh#findClosestGeoIntersection(Ray)}.
+     */
+    @Test
+    void testFindClosestGeoIntersection() {
+        Object[] sphere = tessellatedSphere(24, 32);
+        TriangleMesh mesh = (TriangleMesh) sphere[0];
+        Geometries triangles = (Geometries) sphere[1];
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Random rays find the same closest points as the separate triangles
+        Random random = new Random(11);
+        for (int i = 0; i < 500; ++i) {
+            Point head = new Point(4 * random.nextDouble() - 2, 4 * random.nextDouble() - 2, 4 * random.nextDouble() - 2);
+            Ray ray = new Ray(head, new Vector(random.nextGaussian(), random.nextGaussian(), random.nextGaussian()));
+            GeoPoint expected = triangles.findClosestGeoIntersection(ray);
+            GeoPoint actual = mesh.findClosestGeoIntersection(ray);
+            assertEquals(expected == null, actual == null, "Mesh and triangles disagree on a hit");
+            if (expected != null) {
+                assertEquals(expected.point, actual.point, "Mesh and triangles disagree on the closest point");
+                assertEquals(expected.t, actual.t, 1e-9, "Mesh and triangles disagree on the distance");
+                assertEquals(expected.getNormal(), actual.getNormal(), "Mesh and triangles disagree on the normal");
+                assertEquals(2, mesh.findGeoIntersections(new Ray(new Point(0, 0, 0).add(
+                        ray.getDir().scale(-3)), ray.getDir())).size(), "Ray through the center must cross twice");
+            }
+        }
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Closest intersection beyond the distance limit
+        Ray ray = new Ray(new Point(0.1, 0.1, 5), new Vector(0, 0, -1));
+        assertNotNull(mesh.findClosestGeoIntersection(ray, 4.5), "Intersection within the limit");
+        assertNull(mesh.findClosestGeoIntersection(ray, 3.5), "Intersection beyond the limit");
+    }
+}
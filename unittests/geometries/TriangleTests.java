@@ -109,4 +109,74 @@ class TriangleTests {
         assertNull(triangle.findIntersections(new Ray(new Point(0,-0.5d,1.5d),new Vector(-2.31d,-1d,-1.5d))),"Ray On edge's continuation");
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Test method for {@link geometries.Triangle#intersection(Ray, double)}.
+     */
+    @Test
+    void testIntersection() {
+        Triangle triangle = new Triangle(
+                new Point(1, 0, 0),
+                new Point(0, 1, 0),
+                new Point(0, 0, 1));
+
+        // ============ Equivalence Partitions Tests ==============
+        //TC01: Ray intersects the triangle, distance and barycentric coordinates
+        Ray ray = new Ray(new Point(-1, -1, -2), new Vector(1, 1, 2));
+        Intersectable.GeoPoint hit = triangle.intersection(ray, Double.POSITIVE_INFINITY);
+        assertEquals(Math.sqrt(6) * 1.25, hit.t, 1e-10, "Wrong distance");
+        assertEquals(0.25, hit.u, 1e-10, "Wrong barycentric coordinate of the second vertex");
+        assertEquals(0.5, hit.v, 1e-10, "Wrong barycentric coordinate of the third vertex");
+
+        //TC02: Triangle behind the ray head
+        assertNull(triangle.intersection(new Ray(new Point(1, 1, 2), new Vector(1, 1, 2)), Double.POSITIVE_INFINITY),
+                "Triangle behind the ray");
+
+        //TC03: Ray outside against an edge
+        assertNull(triangle.intersection(new Ray(new Point(-1, -2, -2), new Vector(1, 1, 2)), Double.POSITIVE_INFINITY),
+                "Ray outside against edge");
+
+        // =============== Boundary Values Tests ==================
+        //TC11: Ray through an edge
+        assertNull(triangle.intersection(new Ray(new Point(-0.5, -0.5, -1), new Vector(1, 1, 1)), Double.POSITIVE_INFINITY),
+                "Ray through edge");
+
+        //TC12: Ray parallel to the triangle
+        assertNull(triangle.intersection(new Ray(new Point(0, 0, 0), new Vector(1, -1, 0)), Double.POSITIVE_INFINITY),
+                "Ray parallel to the triangle");
+
+        //TC13: Tiny triangle crossed straight, its small determinant must not read as parallel
+        Triangle tiny = new Triangle(new Point(0, 0, 0), new Point(1e-6, 0, 0), new Point(0, 1e-6, 0));
+        assertEquals(1, tiny.intersection(new Ray(new Point(2e-7, 2e-7, 1), new Vector(0, 0, -1)),
+                Double.POSITIVE_INFINITY).t, 1e-10, "Tiny triangle must be hit");
+
+        //TC14: Intersection beyond the distance limit
+        assertNull(triangle.intersection(ray, Math.sqrt(6) * 1.25), "Intersection beyond the limit");
+    }
+
+    /**
+     * Test method for {@link geometries.Intersectable#findClosestGeoIntersection(Ray)}.
+     */
+    @Test
+    void testFindClosestGeoIntersection() {
+        Triangle triangle = new Triangle(
+                new Point(1, 0, 0),
+                new Point(0, 1, 0),
+                new Point(0, 0, 1));
+
+        // ============ Equivalence Partitions Tests ==============
+        //TC01: The hit records the distance, the barycentric coordinates and the normal
+        Ray ray = new Ray(new Point(-1, -1, -2), new Vector(1, 1, 2));
+        Intersectable.GeoPoint gp = triangle.findClosestGeoIntersection(ray);
+        assertEquals(new Point(0.25d, 0.25d, 0.5d), gp.point, "Wrong intersection point");
+        assertEquals(Math.sqrt(6) * 1.25, gp.t, 1e-10, "Wrong distance");
+        assertEquals(0.25, gp.u, 1e-10, "Wrong barycentric coordinate of the second vertex");
+        assertEquals(0.5, gp.v, 1e-10, "Wrong barycentric coordinate of the third vertex");
+        assertSame(gp.getNormal(), gp.getNormal(), "The normal must be calculated once");
+        assertEquals(triangle.getNormal(gp.point), gp.getNormal(), "Wrong normal");
+
+        // =============== Boundary Values Tests ==================
+        //TC11: The hit is beyond the distance limit
+        assertNull(triangle.findClosestGeoIntersection(ray, gp.t - 0.1), "Hit beyond the limit");
+    }
+}
@@ -0,0 +1,88 @@
+package geometries;
+
+import org.junit.jupiter.api.Test;
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link geometries.UniformGrid}
+ */
+class UniformGridTests {
+
+    /**
+     * Test method for {@link geometries.UniformGrid#findIntersections(Ray)}.
+     */
+    @Test
+    void testFindIntersections() {
+        UniformGrid grid = new UniformGrid(
+                new Sphere(new Point(0, 0, 2), 0.5),
+                new Polygon(
+                        new Point(1, 0, 0),
+                        new Point(0, 1, 0),
+                        new Point(-1, 0, 0),
+                        new Point(0, -1, 0)
+                ),
+                new Triangle(
+                        new Point(1, 0, 0),
+                        new Point(0, 1, 0),
+                        new Point(0, 0, 1)
+                )
+        );
+        List<Point> result;
+
+        // ============ Equivalence Partitions Tests ==============
+        //TC01: A few geometries intersects
+        result = grid.findIntersections(new Ray(new Point(-1, -1, -1), new Vector(2, 2, 2)));
+        assertEquals(2, result.size(), "A few geometries intersects");
+
+        //TC02: Many small spheres give the same intersections as a plain list
+        Random random = new Random(7);
+        Geometries list = new Geometries();
+        UniformGrid field = new UniformGrid();
+        for (int i = 0; i < 500; ++i) {
+            Sphere sphere = new Sphere(new Point(random.nextDouble() * 100, random.nextDouble() * 100,
+                    random.nextDouble() * 100), 1 + random.nextDouble() * 3);
+            list.add(sphere);
+            field.add(sphere);
+        }
+        for (int i = 0; i < 200; ++i) {
+            Ray ray = new Ray(new Point(-10, random.nextDouble() * 100, random.nextDouble() * 100),
+                    new Vector(1, random.nextDouble() - 0.5, random.nextDouble() - 0.5));
+            List<Point> expected = list.findIntersections(ray);
+            List<Point> actual = field.findIntersections(ray);
+            assertEquals(expected == null ? 0 : expected.size(), actual == null ? 0 : actual.size(),
+                    "Wrong number of points through the grid");
+            assertEquals(expected == null ? null : ray.findClosestPoint(expected),
+                    actual == null ? null : field.findClosestGeoIntersection(ray).point,
+                    "Wrong closest point through the grid");
+        }
+
+        // =============== Boundary Values Tests ==================
+        //TC11: All geometries intersects, including a plane added after the grid was built
+        grid.add(new Plane(new Point(0, 0, -5), new Vector(0, 0, 1)));
+        result = grid.findIntersections(new Ray(new Point(0.2, 0.2, -10), new Vector(0, 0, 1)));
+        assertEquals(5, result.size(), "All geometries intersects");
+
+        //TC12: No geometries intersects
+        assertNull(grid.findIntersections(new Ray(new Point(1, 1, 1), new Vector(1, 1, 1))), "No geometries intersects");
+
+        //TC13: Empty grid
+        assertNull(new UniformGrid().findIntersections(new Ray(new Point(1, 2, 3), new Vector(2, 2, 2))), "Empty grid");
+
+        //TC14: Geometry added to a nested Geometries after the grid was built
+        Geometries inner = new Geometries(new Sphere(new Point(0, 0, 0), 1));
+        UniformGrid outer = new UniformGrid(inner, new Sphere(new Point(-10, 0, 0), 1));
+        Ray ray = new Ray(new Point(10, 0, 5), new Vector(0, 0, -1));
+        assertNull(outer.findIntersections(ray), "No geometry before the nested one grows");
+        assertNotNull(outer.findIntersections(new Ray(new Point(-10, 0, 5), new Vector(0, 0, -1))),
+                "The structure is built by a query hitting a geometry");
+        inner.add(new Sphere(new Point(10, 0, 0), 1));
+        assertEquals(2, outer.findIntersections(ray).size(), "Geometry added to a nested Geometries must be found");
+    }
+}
@@ -28,4 +28,64 @@ class RayTests {
         assertEquals(new Point(2,2,3), ray.findClosestPoint(points3), "wrong closest point - it should be 2,2,3");
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void testInverseDirection() {
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: inverse coordinates and signs of an oblique direction
+        Ray ray = new Ray(new Point(1, 2, 3), new Vector(-3, 4, 0.0001));
+        Vector dir = ray.getDir();
+        assertEquals(1 / dir.getX(), ray.getInvDirX(), 1e-10, "wrong inverse x");
+        assertEquals(1 / dir.getY(), ray.getInvDirY(), 1e-10, "wrong inverse y");
+        assertEquals(1 / dir.getZ(), ray.getInvDirZ(), 1e-10, "wrong inverse z");
+        assertEquals(Ray.NEGATIVE_X, ray.getSigns(), "wrong signs");
+
+        // =============== Boundary Values Tests ==================
+        // TC11 zero coordinates have infinite inverses
+        ray = new Ray(new Point(1, 2, 3), new Vector(0, -1, 0));
+        assertEquals(Double.POSITIVE_INFINITY, ray.getInvDirX(), "wrong inverse of a zero x");
+        assertEquals(Ray.NEGATIVE_Y, ray.getSigns(), "wrong signs");
+        // TC12 the shifted ray keeps its caches
+        ray = new Ray(new Point(0, 0, 0), new Vector(0, 0, -1), new Vector(0, 0, 1));
+        assertEquals(-1, ray.getInvDirZ(), 1e-10, "wrong inverse z of a shifted ray");
+        assertEquals(Ray.NEGATIVE_Z, ray.getSigns(), "wrong signs of a shifted ray");
+    }
+
+    @Test
+    void testWithInterval() {
+        Ray ray = new Ray(new Point(1, 2, 3), new Vector(1, 1, 0));
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: a limited ray keeps the head, the direction and the caches
+        Ray limited = ray.withInterval(1, 5);
+        assertEquals(ray, limited, "the limited ray must be the same ray");
+        assertEquals(ray.getInvDirX(), limited.getInvDirX(), "wrong inverse x");
+        assertEquals(1, limited.getTMin(), "wrong interval start");
+        assertEquals(5, limited.getTMax(), "wrong interval end");
+        // TC02: a negative interval start is rejected
+        assertThrows(IllegalArgumentException.class, () -> ray.withInterval(-1, 5), "negative start must throw");
+        // TC03: an empty interval is rejected
+        assertThrows(IllegalArgumentException.class, () -> new Ray(new Point(1, 2, 3), new Vector(1, 1, 0), 5, 1),
+                "empty interval must throw");
+
+        // =============== Boundary Values Tests ==================
+        // TC11 the default interval is the whole ray
+        assertEquals(0, ray.getTMin(), "wrong default interval start");
+        assertEquals(Double.POSITIVE_INFINITY, ray.getTMax(), "wrong default interval end");
+        // TC12 a single point interval is allowed
+        assertEquals(3, ray.withInterval(3, 3).getTMax(), "wrong single point interval");
+    }
+
+    @Test
+    void testOfUnit() {
+        Vector unit = new Vector(0, 0.6, -0.8);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the trusted direction is kept as is
+        Ray ray = Ray.ofUnit(new Point(1, 2, 3), unit);
+        assertSame(unit, ray.getDir(), "the unit direction must not be normalized again");
+        assertEquals(new Ray(new Point(1, 2, 3), new Vector(0, 3, -4)), ray, "wrong ray");
+        assertEquals(Ray.NEGATIVE_Z, ray.getSigns(), "wrong signs");
+        assertEquals(Double.POSITIVE_INFINITY, ray.getTMax(), "wrong default interval end");
+    }
+}
@@ -5,6 +5,14 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
 import primitives.*;
+import scene.Scene;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Testing Camera Class
@@ -54,6 +62,307 @@ class CameraTests {
         assertEquals(new Ray(ZERO_POINT, new Vector(1, -3, -10)),
                 camera.setVPSize(8, 8).constructRay(4, 4, 1, 0), badRay);
 
+        // BV07: 4X4 Side (0,1) after moving the view plane, the primary rays are recalculated
+        assertEquals(new Ray(ZERO_POINT, new Vector(1, -3, -5)),
+                camera.setVPDistance(5).constructRay(4, 4, 1, 0), badRay);
+
+        // BV08: 4X4 Last pixel of a row, calculated without the previous columns
+        assertEquals(new Ray(ZERO_POINT, new Vector(-3, 1, -5)),
+                camera.constructRay(4, 4, 3, 2), badRay);
+
+    }
+
+    /**
+     * Test method for
+     * {@link renderer.Camera#renderImageMultiThreading()}.
+     */
+    @Test
+    void testRenderImageMultiThreading() {
+        RayTracerBase tracer = new RayTracerBase(new Scene.SceneBuilder("Test scene").build()) {
+            @Override
+            public Color traceRay(Ray ray) {
+                Vector dir = ray.getDir();
+                return new Color((dir.getX() + 1) * 100, (dir.getY() + 1) * 100, 0);
+            }
+        };
+        Camera camera = new Camera(ZERO_POINT, new Vector(0, 0, -1), new Vector(0, -1, 0))
+                .setVPDistance(10).setVPSize(13, 13).setRayTracer(tracer);
+        RecordingImageWriter expected = new RecordingImageWriter(13);
+        camera.setImageWriter(expected).renderImage();
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Tiles do not divide the image evenly
+        RecordingImageWriter actual = new RecordingImageWriter(13);
+        camera.setImageWriter(actual).setMultithreading(4).setTileSize(4).renderImageMultiThreading();
+        actual.assertSame(expected);
+
+        // TC02: Rendering again with the same camera
+        actual = new RecordingImageWriter(13);
+        camera.setImageWriter(actual).renderImageMultiThreading();
+        actual.assertSame(expected);
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Single thread with a single pixel tiles
+        actual = new RecordingImageWriter(13);
+        camera.setImageWriter(actual).setMultithreading(1).setTileSize(1).renderImageMultiThreading();
+        actual.assertSame(expected);
+
+        // TC12: Non positive threads or tile size
+        assertThrows(IllegalArgumentException.class, () -> camera.setMultithreading(0), "Zero threads must throw");
+        assertThrows(IllegalArgumentException.class, () -> camera.setTileSize(0), "Zero tile size must throw");
+
+        // TC13: Tiles submitted to an executor, more tiles running than pool threads
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            actual = new RecordingImageWriter(13);
+            camera.setImageWriter(actual).setMultithreading(3).setTileSize(5).setExecutor(pool)
+                    .renderImageMultiThreading();
+            actual.assertSame(expected);
+        } finally {
+            pool.shutdown();
+        }
+
+        // TC14: Tiles on virtual threads, available from Java 21
+        Camera virtual = camera.setExecutor(null).setVirtualThreads(true).setImageWriter(new RecordingImageWriter(13));
+        if (Runtime.version().feature() < 21)
+            assertThrows(UnsupportedOperationException.class, virtual::renderImageMultiThreading,
+                    "Virtual threads must not be available");
+        else {
+            actual = new RecordingImageWriter(13);
+            virtual.setImageWriter(actual).renderImageMultiThreading();
+            actual.assertSame(expected);
+        }
+
+        // TC15: An error thrown in a tile on an executor reaches the caller
+        Camera failing = new Camera(ZERO_POINT, new Vector(0, 0, -1), new Vector(0, -1, 0))
+                .setVPDistance(10).setVPSize(13, 13).setImageWriter(new RecordingImageWriter(13))
+                .setRayTracer(new RayTracerBase(new Scene.SceneBuilder("Test scene").build()) {
+                    @Override
+                    public Color traceRay(Ray ray) {
+                        throw new AssertionError("tile failure");
+                    }
+                }).setMultithreading(2).setTileSize(5);
+        ExecutorService errorPool = Executors.newFixedThreadPool(2);
+        try {
+            assertThrows(AssertionError.class, () -> failing.setExecutor(errorPool).renderImageMultiThreading(),
+                    "An error in a tile must be rethrown");
+        } finally {
+            errorPool.shutdown();
+        }
+    }
+
+    /**
+     * Test method for
+     * {@link renderer.Camera#renderImageMultiThreading_AdaptSS()}.
+     */
+    @Test
+    void testRenderImageMultiThreadingAdaptSS() {
+        Set<String> traced = ConcurrentHashMap.newKeySet();
+        AtomicInteger traces = new AtomicInteger();
+        Camera camera = edgeCamera(ray -> {
+            traced.add(ray.getDir().toString());
+            traces.incrementAndGet();
+        }).setMultithreading(1).setTileSize(13);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Each sample of a single tile is traced once, only the pixels on the edge are divided
+        RecordingImageWriter expected = new RecordingImageWriter(13);
+        camera.setImageWriter(expected).renderImageMultiThreading_AdaptSS();
+        assertEquals(traced.size(), traces.get(), "Each sample must be traced once");
+        assertTrue(traces.get() < 14 * 14 + 13 * 81, "Only the pixels on the edge must be divided");
+        assertEquals(200, expected.colors[0][0].getColor().getRed(), "Bad pixel color left of the edge");
+        assertEquals(0, expected.colors[0][12].getColor().getRed(), "Bad pixel color right of the edge");
+        int red = expected.colors[0][6].getColor().getRed();
+        assertTrue(red > 0 && red < 200, "The pixel on the edge must be blended");
+
+        // TC02: Several tiles and threads render the same image
+        RecordingImageWriter actual = new RecordingImageWriter(13);
+        camera.setImageWriter(actual).setMultithreading(3).setTileSize(4).renderImageMultiThreading_AdaptSS();
+        actual.assertSame(expected);
+
+        // =============== Boundary Values Tests ==================
+        // TC11: A flat image traces only the pixel corners
+        traces.set(0);
+        camera.setRayTracer(new RayTracerBase(new Scene.SceneBuilder("Test scene").build()) {
+            @Override
+            public Color traceRay(Ray ray) {
+                traces.incrementAndGet();
+                return new Color(10, 20, 30);
+            }
+        }).setImageWriter(new RecordingImageWriter(13)).setMultithreading(1).setTileSize(13)
+                .renderImageMultiThreading_AdaptSS();
+        assertEquals(14 * 14, traces.get(), "A flat image must trace the pixel corners only");
+    }
+
+    /**
+     * Test method for
+     * {@link renderer.Camera#setAdaptiveSampleCount(int, int, double)}.
+     */
+    @Test
+    void testAdaptiveSampleCount() {
+        AtomicInteger traces = new AtomicInteger();
+        Camera camera = edgeCamera(ray -> traces.incrementAndGet()).setAntiAliasing(true)
+                .setAdaptiveSampleCount(4, 64, 2).setMultithreading(1);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Flat pixels take a single batch, the pixels on the edge take more
+        RecordingImageWriter expected = new RecordingImageWriter(13);
+        camera.setImageWriter(expected).renderImageMultiThreading();
+        assertTrue(traces.get() > 13 * 13 * 4, "The pixels on the edge must take more samples");
+        assertTrue(traces.get() <= 13 * 12 * 4 + 13 * 64, "Only the pixels on the edge must take more samples");
+        int red = expected.colors[0][6].getColor().getRed();
+        assertTrue(red > 0 && red < 200, "The pixel on the edge must be blended");
+        assertEquals(200, expected.colors[0][0].getColor().getRed(), "Bad flat pixel color");
+
+        // TC02: Several threads render the same image
+        RecordingImageWriter actual = new RecordingImageWriter(13);
+        camera.setImageWriter(actual).setMultithreading(3).setTileSize(4).renderImageMultiThreading();
+        actual.assertSame(expected);
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Zero tolerance takes the whole budget on the edge
+        traces.set(0);
+        camera.setAdaptiveSampleCount(4, 64, 0).setImageWriter(new RecordingImageWriter(13))
+                .setMultithreading(1).renderImageMultiThreading();
+        assertEquals(13 * 12 * 4 + 13 * 64, traces.get(), "Zero tolerance must take the whole budget on the edge");
+
+        // TC12: Bad budgets
+        assertThrows(IllegalArgumentException.class, () -> camera.setAdaptiveSampleCount(0, 8, 1),
+                "Zero least samples must throw");
+        assertThrows(IllegalArgumentException.class, () -> camera.setAdaptiveSampleCount(8, 4, 1),
+                "Maximal samples lower than the least must throw");
     }
 
+    /**
+     * Test method for
+     * {@link renderer.Camera#setEdgeDetection(boolean)}.
+     */
+    @Test
+    void testEdgeDetection() {
+        AtomicInteger traces = new AtomicInteger();
+        Camera camera = edgeCamera(ray -> traces.incrementAndGet()).setAntiAliasing(true)
+                .setSamplesPerPixel(4, 4).setMultithreading(1);
+        RecordingImageWriter full = new RecordingImageWriter(13);
+        camera.setImageWriter(full).renderImageMultiThreading();
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Only the two columns around the edge are anti-aliased
+        traces.set(0);
+        RecordingImageWriter expected = new RecordingImageWriter(13);
+        camera.setEdgeDetection(true).setImageWriter(expected).renderImageMultiThreading();
+        assertEquals(13 * 13 + 2 * 13 * 16, traces.get(), "Only the edge pixels must be anti-aliased");
+        for (int row = 0; row < 13; row++)
+            for (int col = 5; col <= 6; col++)
+                assertEquals(full.colors[row][col].getColor(), expected.colors[row][col].getColor(),
+                        "Edge pixels must be anti-aliased");
+
+        // TC02: Several threads render the same image
+        RecordingImageWriter actual = new RecordingImageWriter(13);
+        camera.setImageWriter(actual).setMultithreading(3).setTileSize(4).renderImageMultiThreading();
+        actual.assertSame(expected);
+
+        // =============== Boundary Values Tests ==================
+        // TC11: A color threshold above the contrast finds no edge
+        traces.set(0);
+        camera.setEdgeThresholds(255, 20).setImageWriter(new RecordingImageWriter(13)).setMultithreading(1)
+                .renderImageMultiThreading();
+        assertEquals(13 * 13, traces.get(), "No pixel must be anti-aliased");
+
+        // TC12: Negative threshold
+        assertThrows(IllegalArgumentException.class, () -> camera.setEdgeThresholds(-1, 20),
+                "Negative color threshold must throw");
+    }
+
+    /**
+     * Test method for {@link renderer.Camera#setSampler(Sampler)}
+     * and {@link renderer.Camera#setSamplesPerPixel(int, int)}.
+     */
+    @Test
+    void testSampler() {
+        RayTracerBase tracer = new RayTracerBase(new Scene.SceneBuilder("Test scene").build()) {
+            @Override
+            public Color traceRay(Ray ray) {
+                Vector dir = ray.getDir();
+                return new Color((dir.getX() + 1) * 100, (dir.getY() + 1) * 100, 0);
+            }
+        };
+        Camera camera = new Camera(ZERO_POINT, new Vector(0, 0, -1), new Vector(0, -1, 0))
+                .setVPDistance(10).setVPSize(13, 13).setRayTracer(tracer).setAntiAliasing(true);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Each sampler renders the same image with any amount of threads
+        for (Sampler sampler : new Sampler[]{new RandomSampler(3), new StratifiedSampler(3),
+                new HaltonSampler(3), new SobolSampler(3), new MultiJitteredSampler(3)}) {
+            RecordingImageWriter expected = new RecordingImageWriter(13);
+            camera.setSampler(sampler).setImageWriter(expected).setMultithreading(1).renderImageMultiThreading();
+            RecordingImageWriter actual = new RecordingImageWriter(13);
+            camera.setImageWriter(actual).setMultithreading(3).setTileSize(2).renderImageMultiThreading();
+            actual.assertSame(expected);
+        }
+
+        // TC02: Another seed jitters the rays differently
+        Ray center = camera.constructRay(13, 13, 6, 6);
+        assertNotEquals(camera.setSampler(new StratifiedSampler(1)).constructRaysGridFromRay(13, 13, 8, 8, center, 6, 6),
+                camera.setSampler(new StratifiedSampler(2)).constructRaysGridFromRay(13, 13, 8, 8, center, 6, 6),
+                "Another seed must jitter the rays differently");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: A single sample per pixel
+        RecordingImageWriter expected = new RecordingImageWriter(13);
+        camera.setSampler(new MultiJitteredSampler(3)).setSamplesPerPixel(1, 1).setImageWriter(expected)
+                .setMultithreading(1).renderImageMultiThreading();
+        RecordingImageWriter actual = new RecordingImageWriter(13);
+        camera.setImageWriter(actual).setMultithreading(3).renderImageMultiThreading();
+        actual.assertSame(expected);
+
+        // TC12: No samples per pixel
+        assertThrows(IllegalArgumentException.class, () -> camera.setSamplesPerPixel(0, 4), "Zero rows must throw");
+    }
+
+    /**
+     * Creates a camera over a 13x13 view plane of a scene with a vertical edge:
+     * the rays going right of x = 0.0123 see gray, the others see black,
+     * so the edge crosses the pixels of column 6.
+     *
+     * @param observer notified of each traced ray
+     * @return the camera
+     */
+    private static Camera edgeCamera(Consumer<Ray> observer) {
+        RayTracerBase edge = new RayTracerBase(new Scene.SceneBuilder("Test scene").build()) {
+            @Override
+            public Color traceRay(Ray ray) {
+                observer.accept(ray);
+                return ray.getDir().getX() > 0.0123 ? new Color(200, 200, 200) : Color.BLACK;
+            }
+        };
+        return new Camera(ZERO_POINT, new Vector(0, 0, -1), new Vector(0, -1, 0))
+                .setVPDistance(10).setVPSize(13, 13).setRayTracer(edge);
+    }
+
+    /**
+     * Image writer keeping the written colors and counting the writes
+     */
+    private static class RecordingImageWriter extends ImageWriter {
+        private final Color[][] colors;
+        private final AtomicInteger writes = new AtomicInteger();
+
+        RecordingImageWriter(int size) {
+            super("recording", size, size);
+            colors = new Color[size][size];
+        }
+
+        @Override
+        public void writePixel(int xIndex, int yIndex, Color color) {
+            colors[yIndex][xIndex] = color;
+            writes.incrementAndGet();
+        }
+
+        void assertSame(RecordingImageWriter expected) {
+            assertEquals(expected.writes.get(), writes.get(), "Each pixel must be written once");
+            for (int row = 0; row < colors.length; row++)
+                for (int col = 0; col < colors[row].length; col++)
+                    assertEquals(expected.colors[row][col].getColor(), colors[row][col].getColor(),
+                            "Bad pixel color");
+        }
+    }
 }
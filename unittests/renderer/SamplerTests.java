@@ -0,0 +1,82 @@
+package renderer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link renderer.Sampler} implementations
+ */
+class SamplerTests {
+    private final List<Sampler> samplers = List.of(new RandomSampler(1), new StratifiedSampler(1),
+            new HaltonSampler(1), new SobolSampler(1), new MultiJitteredSampler(1));
+
+    /**
+     * Test method for {@link renderer.Sampler#samples(long, int, int, double[])}.
+     */
+    @Test
+    void testSamples() {
+        double[] samples = new double[2 * 64];
+        double[] again = new double[2 * 64];
+
+        // ============ Equivalence Partitions Tests ==============
+        for (Sampler sampler : samplers) {
+            String name = sampler.getClass().getSimpleName();
+            // TC01: The samples are inside the pixel
+            sampler.samples(17, 8, 8, samples);
+            for (double sample : samples)
+                assertTrue(sample >= 0 && sample < 1, name + " sample out of the pixel");
+
+            // TC02: The same pixel always gets the same samples
+            sampler.samples(17, 8, 8, again);
+            assertArrayEquals(samples, again, name + " samples must depend only on the pixel");
+
+            // TC03: Another pixel gets other samples
+            sampler.samples(18, 8, 8, again);
+            assertFalse(Arrays.equals(samples, again), name + " pixels must not share the samples");
+        }
+
+        // TC04: Stratified, Halton, Sobol and multi-jittered samples fall one in each cell of a 8x8 grid,
+        // Halton only for the 8 columns as its y coordinates are in base 3
+        for (Sampler sampler : samplers.subList(1, 5)) {
+            String name = sampler.getClass().getSimpleName();
+            sampler.samples(5, 8, 8, samples);
+            int[] columns = new int[8];
+            boolean[] cells = new boolean[64];
+            for (int k = 0; k < 64; ++k) {
+                int x = (int) (samples[2 * k] * 8);
+                columns[x]++;
+                cells[x + 8 * (int) (samples[2 * k + 1] * 8)] = true;
+            }
+            for (int column : columns)
+                assertEquals(8, column, name + " samples must be stratified in x");
+            if (!(sampler instanceof HaltonSampler))
+                for (boolean cell : cells)
+                    assertTrue(cell, name + " samples must be stratified in the grid");
+        }
+
+        // TC05: Multi-jittered samples fall one in each of the 48 narrow columns and rows of a 6x8 grid
+        double[] jittered = new double[2 * 48];
+        new MultiJitteredSampler(4).samples(9, 6, 8, jittered);
+        boolean[] narrowColumns = new boolean[48];
+        boolean[] narrowRows = new boolean[48];
+        for (int k = 0; k < 48; ++k) {
+            narrowColumns[(int) (jittered[2 * k] * 48)] = true;
+            narrowRows[(int) (jittered[2 * k + 1] * 48)] = true;
+        }
+        for (int k = 0; k < 48; ++k)
+            assertTrue(narrowColumns[k] && narrowRows[k], "Multi-jittered samples must be stratified in each axis");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: A single sample
+        for (Sampler sampler : samplers) {
+            double[] single = new double[2];
+            sampler.samples(0, 1, 1, single);
+            assertTrue(single[0] >= 0 && single[0] < 1 && single[1] >= 0 && single[1] < 1,
+                    sampler.getClass().getSimpleName() + " sample out of the pixel");
+        }
+    }
+}
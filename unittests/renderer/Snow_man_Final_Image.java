@@ -14,6 +14,10 @@ public class Snow_man_Final_Image {
             new Vector(0, 1, -0.13))
             .setVPSize(150, 150).setVPDistance(1000)
             .setRayTracer(new RayTracerBasic(scene1));
+    /**
+     * Whether scene1 already holds the geometries and the lights of the final image
+     */
+    private boolean sceneBuilt = false;
 
     private Scene setGeo() {
 
@@ -414,13 +418,35 @@ public class Snow_man_Final_Image {
     }//
 
     /**
-     * Produce a scenecolor ball between 4 frames.
+     * Builds the final image scene with its geometries and lights, once per instance:
+     * further calls return the same scene without adding its content again.
+     * Also used by the render benchmark.
+     *
+     * @return the scene
      */
-    @Test
-    public void bonus10Geo() {
+    public Scene setScene() {
+        if (sceneBuilt)
+            return scene1;
+        sceneBuilt = true;
         setGeo().getLights().add(new PointLight(new Color(150, 150, 150), new Point(500, 500, 6000)));
         scene1.getLights().add(new SpotLight(new Color(GREEN),new Point(-800, 1200, 5000),new Vector(-0.1,-1,-0.5)).setKl(2E-4).setKq(4E-5)
                );
+        return scene1;
+    }
+
+    /**
+     * @return the camera of the final image
+     */
+    public Camera getCamera() {
+        return camera1;
+    }
+
+    /**
+     * Produce a scenecolor ball between 4 frames.
+     */
+    @Test
+    public void bonus10Geo() {
+        setScene();
 
 
         camera1.setImageWriter(new ImageWriter("snow_mann", 500, 500))
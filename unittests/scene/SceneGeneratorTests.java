@@ -0,0 +1,84 @@
+package scene;
+
+import geometries.Intersectable.GeoPoint;
+import org.junit.jupiter.api.Test;
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link scene.SceneGenerator}
+ */
+class SceneGeneratorTests {
+
+    /**
+     * Checks that two scenes intersect the same rays at the same points
+     */
+    private static void assertSameScene(Scene expected, Scene actual, String message) {
+        Random random = new Random(7);
+        Point head = new Point(0, 0, 200);
+        for (int i = 0; i < 200; ++i) {
+            Point target = new Point(100 * random.nextDouble() - 50, 100 * random.nextDouble() - 50, 0);
+            Ray ray = new Ray(head, target.subtract(head));
+            GeoPoint gp1 = expected.getGeometries().findClosestGeoIntersection(ray);
+            GeoPoint gp2 = actual.getGeometries().findClosestGeoIntersection(ray);
+            assertEquals(gp1 == null, gp2 == null, message);
+            if (gp1 != null) assertEquals(gp1.point, gp2.point, message);
+        }
+    }
+
+    /**
+     * Test method for {@link scene.SceneGenerator#sphereField()}.
+     */
+    @Test
+    void testSphereField() {
+        SceneGenerator generator = new SceneGenerator(3).setPrimitives(500).setLights(5);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Same seed generates the same scene
+        Scene scene = generator.sphereField();
+        assertEquals(5, scene.getLights().size(), "Wrong amount of lights");
+        assertSameScene(scene, generator.sphereField(), "Same seed must generate the same spheres");
+
+        // TC02: The acceleration structure does not change the scene
+        assertSameScene(scene, generator.setAcceleration(SceneGenerator.Acceleration.GRID).sphereField(),
+                "Grid scene must match the BVH scene");
+        assertSameScene(scene, generator.setAcceleration(SceneGenerator.Acceleration.NONE).sphereField(),
+                "Plain scene must match the BVH scene");
+
+        // TC03: Geometries stay inside the scene cube
+        assertTrue(scene.getGeometries().getBoundingBox().getMin().distance(new Point(-50, -50, -50)) < 50 * Math.sqrt(3),
+                "Geometries out of the scene cube");
+        assertTrue(scene.getGeometries().getBoundingBox().getMax().getX() <= 50, "Geometries out of the scene cube");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Zero primitives is rejected
+        assertThrows(IllegalArgumentException.class, () -> generator.setPrimitives(0), "Zero primitives must throw");
+    }
+
+    /**
+     * Test method for {@link scene.SceneGenerator#triangleSoup()}, {@link scene.SceneGenerator#tessellatedMesh()}
+     * and {@link scene.SceneGenerator#indexedMesh()}.
+     */
+    @Test
+    void testTriangles() {
+        SceneGenerator generator = new SceneGenerator(5).setPrimitives(800).setLights(0);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Same seed generates the same triangles
+        assertSameScene(generator.triangleSoup(), generator.triangleSoup(), "Same seed must generate the same soup");
+        assertTrue(generator.triangleSoup().getLights().isEmpty(), "No lights expected");
+
+        // TC02: The mesh covers the whole view of the cube front face
+        Scene mesh = generator.tessellatedMesh();
+        assertNotNull(mesh.getGeometries().findClosestGeoIntersection(
+                new Ray(new Point(11.3, -18.1, 200), new Vector(0, 0, -1))), "The mesh must cover the cube");
+
+        // TC03: The indexed mesh is the same surface as the separate triangles
+        assertSameScene(mesh, generator.indexedMesh(), "Indexed mesh must match the separate triangles");
+    }
+}